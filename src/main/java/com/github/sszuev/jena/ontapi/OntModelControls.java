@@ -33,6 +33,44 @@ public enum OntModelControls {
      * @see OntSpecification#OWL2_DL_MEM_BUILTIN_INF
      */
     USE_BUILTIN_HIERARCHY_SUPPORT,
+    /**
+     * An integer key that controls the builtin hierarchy support (see {@link #USE_BUILTIN_HIERARCHY_SUPPORT}):
+     * once a level of the breadth-first search collecting all sub/super classes becomes at least this wide,
+     * the graph lookups for it and all the subsequent levels are performed in parallel
+     * using the {@link java.util.concurrent.ForkJoinPool#commonPool() common ForkJoin pool};
+     * the found nodes are wrapped into {@link com.github.sszuev.jena.ontapi.model.OntClass}es in the calling thread.
+     * If the key is absent or its value is less than {@code 2}, the search is always sequential (the default).
+     * The parallel search requires the model graph to support concurrent reads
+     * and must not be used while the graph is being modified;
+     * e.g. graphs bound to a thread-local transaction (such as TDB) are not suitable.
+     *
+     * @see com.github.sszuev.jena.ontapi.common.OntConfig#setInt(Enum, int)
+     */
+    PARALLEL_HIERARCHY_FRONTIER_THRESHOLD,
+    /**
+     * If this key is set to {@code true}, then the model maintains in-memory indexes,
+     * which are built on demand and then updated incrementally on every change of the underlying graphs,
+     * including direct changes of data graphs bypassing the model.
+     * The following indexes are supported:
+     * <ul>
+     * <li>class hierarchy index, that is used by {@link com.github.sszuev.jena.ontapi.model.OntClass#subClasses(boolean)}
+     * and {@link com.github.sszuev.jena.ontapi.model.OntClass#superClasses(boolean)}</li>
+     * <li>property hierarchy index, that is used by {@link com.github.sszuev.jena.ontapi.model.OntProperty#subProperties(boolean)}
+     * and {@link com.github.sszuev.jena.ontapi.model.OntProperty#superProperties(boolean)};
+     * in addition to {@code rdfs:subPropertyOf} it takes into account
+     * {@code owl:equivalentProperty} and {@code owl:inverseOf} statements</li>
+     * <li>inverse domain index (class to properties), that is used by
+     * {@link com.github.sszuev.jena.ontapi.model.OntClass#declaredProperties(boolean)}
+     * and {@link com.github.sszuev.jena.ontapi.model.OntClass#hasDeclaredProperty(com.github.sszuev.jena.ontapi.model.OntProperty, boolean)}</li>
+     * <li>class disjointness index, that is used by
+     * {@link com.github.sszuev.jena.ontapi.model.OntClass#isDisjoint(org.apache.jena.rdf.model.Resource)}</li>
+     * </ul>
+     * This speeds up repeated queries at the cost of additional memory.
+     * Has no effect if the model has a reasoner attached.
+     *
+     * @see OntSpecification#OWL2_DL_MEM_INDEXED_BUILTIN_INF
+     */
+    USE_BUILTIN_INDEXES,
     /**
      * If this key is set to {@code true},
      * then {@code owl:DataRange} and {@code owl:distinctMembers} will also be considered,
@@ -79,6 +117,16 @@ public enum OntModelControls {
      * Otherwise, a full checking is performed.
      */
     USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS,
+    /**
+     * Used while {@link com.github.sszuev.jena.ontapi.model.OntModel#individuals()}.
+     * If {@code true}, class assertions are grouped by subject:
+     * an individual is returned only for its first class assertion, which is found by a per-subject type lookup,
+     * so the memory consumption does not depend on the size of ABox.
+     * Otherwise, a set of seen class assertions is maintained to skip duplicates,
+     * which is faster for ABoxes with single-typed individuals,
+     * but may grow large for ABoxes with many multi-typed individuals.
+     */
+    USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS,
     /**
      * If {@code true},
      * named class testing is compatible with the legacy {@link org.apache.jena.ontology.OntModel Jena OntModel},
@@ -136,6 +136,26 @@ public class OntSpecification {
             null
     );
 
+    /**
+     * A specification for OWL2 ontology models that are stored in memory
+     * and use fast but incomplete builtin OWL inference engine, like {@link #OWL2_DL_MEM_BUILTIN_INF}.
+     * Additionally, the models maintain in-memory indexes (e.g. class hierarchy index),
+     * which speed up repeated hierarchy queries at the cost of additional memory.
+     *
+     * @see OntModelControls#USE_BUILTIN_INDEXES
+     */
+    public static final OntSpecification OWL2_DL_MEM_INDEXED_BUILTIN_INF = new OntSpecification(
+            OntPersonalities.OWL2_ONT_PERSONALITY()
+                    .setBuiltins(OntPersonalities.OWL2_FULL_BUILTINS)
+                    .setReserved(OntPersonalities.OWL2_RESERVED)
+                    .setPunnings(OntPersonalities.OWL_DL2_PUNNINGS)
+                    .setConfig(OntConfigs.OWL2_CONFIG
+                            .setTrue(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                            .setTrue(OntModelControls.USE_BUILTIN_INDEXES))
+                    .build(),
+            null
+    );
+
     /**
      * A specification for OWL2 DL ontology models
      * that are stored in memory and do no additional entailment reasoning.
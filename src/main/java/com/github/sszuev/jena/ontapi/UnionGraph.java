@@ -7,6 +7,8 @@ import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.shared.PrefixMapping;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -38,6 +40,17 @@ public interface UnionGraph extends Graph {
      */
     boolean isDistinct();
 
+    /**
+     * Answers {@code true} iff the number of triples in this graph is maintained
+     * and therefore the operation {@link Graph#size()} does not take significant efforts,
+     * even if the graph has sub-graphs.
+     *
+     * @return boolean
+     */
+    default boolean isSized() {
+        return false;
+    }
+
     /**
      * Returns the base (primary) data graph.
      *
@@ -98,6 +111,41 @@ public interface UnionGraph extends Graph {
         return this;
     }
 
+    /**
+     * Adds all the given triples into this graph.
+     * Implementations may perform this operation more efficiently than adding triples one by one,
+     * e.g. with a single {@link Listener#onAddTriples(UnionGraph, List)} event for a batch of triples.
+     *
+     * @param triples {@link Iterator} of {@link Triple}s, not {@code null}
+     */
+    default void addAll(Iterator<Triple> triples) {
+        triples.forEachRemaining(this::add);
+    }
+
+    /**
+     * Deletes all the given triples from this graph.
+     * Implementations may perform this operation more efficiently than deleting triples one by one,
+     * e.g. with a single {@link Listener#onDeleteTriples(UnionGraph, List)} event for a batch of triples.
+     *
+     * @param triples {@link Iterator} of {@link Triple}s, not {@code null}
+     */
+    default void deleteAll(Iterator<Triple> triples) {
+        triples.forEachRemaining(this::delete);
+    }
+
+    /**
+     * Lists all triples matching the pattern in the form of a parallel {@code Stream}.
+     * Implementations may split the stream by the data graphs.
+     * By default, the matching triples are collected into memory first.
+     * The graph must not be modified while the stream is being processed.
+     *
+     * @param m {@link Triple} pattern, not {@code null}
+     * @return parallel {@code Stream} of {@link Triple}s
+     */
+    default Stream<Triple> parallelFind(Triple m) {
+        return find(m).toList().parallelStream();
+    }
+
     /**
      * Answers {@code true} iff this {@code UnionGraph} contains the specified graph as a subgraph.
      *
@@ -164,6 +212,28 @@ public interface UnionGraph extends Graph {
          */
         void onDeleteTriple(UnionGraph graph, Triple triple);
 
+        /**
+         * Called before {@link UnionGraph#addAll(Iterator)} for each batch of triples.
+         * By default, it calls {@link #onAddTriple(UnionGraph, Triple)} for each triple.
+         *
+         * @param graph   {@link UnionGraph}
+         * @param triples {@code List} of {@link Triple}s
+         */
+        default void onAddTriples(UnionGraph graph, List<Triple> triples) {
+            triples.forEach(it -> onAddTriple(graph, it));
+        }
+
+        /**
+         * Called before {@link UnionGraph#deleteAll(Iterator)} for each batch of triples.
+         * By default, it calls {@link #onDeleteTriple(UnionGraph, Triple)} for each triple.
+         *
+         * @param graph   {@link UnionGraph}
+         * @param triples {@code List} of {@link Triple}s
+         */
+        default void onDeleteTriples(UnionGraph graph, List<Triple> triples) {
+            triples.forEach(it -> onDeleteTriple(graph, it));
+        }
+
         /**
          * Called before {@link UnionGraph#clear()}.
          *
@@ -6,7 +6,10 @@ import org.apache.jena.enhanced.EnhNode;
 import org.apache.jena.graph.Node;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@link EnhNodeFactory}.
@@ -76,6 +79,16 @@ public class CommonEnhNodeFactoryImpl extends BaseEnhNodeFactoryImpl {
         return finder.restrict(filter).iterator(eg).mapWith(n -> maker.newInstance(n, eg));
     }
 
+    @Override
+    public Stream<EnhNode> parallelFind(EnhGraph eg) {
+        List<Node> candidates = finder.parallelFind(eg).collect(Collectors.toList());
+        return candidates.stream()
+                .filter(n -> filter.test(n, eg))
+                .map(n -> maker.newInstance(n, eg))
+                .collect(Collectors.toList())
+                .parallelStream();
+    }
+
     @Override
     public EnhNode createInstance(Node node, EnhGraph eg) {
         return maker.newInstance(node, eg);
@@ -73,6 +73,19 @@ public class CompositeEnhNodeFactoryImpl extends BaseEnhNodeFactoryImpl {
         return Iterators.distinct(Iterators.flatMap(listFactories(), f -> f.iterator(eg)));
     }
 
+    @Override
+    public Stream<EnhNode> parallelFind(EnhGraph eg) {
+        if (finder != null) {
+            List<Node> candidates = finder.parallelFind(eg).collect(Collectors.toList());
+            return candidates.stream()
+                    .map(n -> createInstance(n, eg))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())
+                    .parallelStream();
+        }
+        return super.parallelFind(eg);
+    }
+
     public EnhNodeFinder getFinder() {
         return finder;
     }
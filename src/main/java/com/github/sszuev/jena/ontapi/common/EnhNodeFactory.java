@@ -10,6 +10,7 @@ import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -128,4 +129,19 @@ public interface EnhNodeFactory {
     default Stream<EnhNode> find(EnhGraph eg) {
         return Iterators.asStream(iterator(eg));
     }
+
+    /**
+     * Lists all enhanced nodes from the graph, with the interface that this factory encapsulates,
+     * in the form of a parallel {@code Stream}.
+     * Implementations may find candidate nodes in parallel,
+     * but must test and wrap them in the calling thread,
+     * since {@link EnhGraph} node caches and {@link EnhNode#viewAs(Class)} are not thread-safe.
+     * The graph must not be modified while the stream is being processed.
+     *
+     * @param eg the graph containing the node
+     * @return the parallel stream of enhanced and suitability nodes
+     */
+    default Stream<EnhNode> parallelFind(EnhGraph eg) {
+        return find(eg).collect(Collectors.toList()).parallelStream();
+    }
 }
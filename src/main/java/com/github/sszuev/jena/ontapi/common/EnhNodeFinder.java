@@ -53,6 +53,19 @@ public interface EnhNodeFinder {
         return Iterators.asStream(iterator(eg));
     }
 
+    /**
+     * Lists the nodes from the specified model by the encapsulated criterion in the form of a parallel {@code Stream}.
+     * Implementations may read the graph in parallel, but must not create or test enhanced nodes in parallel,
+     * since the model caches are not thread-safe.
+     * The model must not be modified while the stream is being processed.
+     *
+     * @param eg {@link EnhGraph}, model
+     * @return parallel {@link Stream} of {@link Node}s
+     */
+    default Stream<Node> parallelFind(EnhGraph eg) {
+        return find(eg).collect(Collectors.toList()).parallelStream();
+    }
+
     default EnhNodeFinder restrict(EnhNodeFilter filter) {
         if (Objects.requireNonNull(filter, "Null restriction filter.").equals(EnhNodeFilter.TRUE)) return this;
         if (filter.equals(EnhNodeFilter.FALSE)) return eg -> NullIterator.instance();
@@ -74,6 +87,12 @@ public interface EnhNodeFinder {
         public ExtendedIterator<Node> iterator(EnhGraph eg) {
             return eg.asGraph().find(Node.ANY, RDF.Nodes.type, type).mapWith(Triple::getSubject);
         }
+
+        @Override
+        public Stream<Node> parallelFind(EnhGraph eg) {
+            return Graphs.parallelFind(eg.asGraph(), Triple.createMatch(Node.ANY, RDF.Nodes.type, type))
+                    .map(Triple::getSubject);
+        }
     }
 
     class ByTypes implements EnhNodeFinder {
@@ -94,6 +113,15 @@ public interface EnhNodeFinder {
             return Iterators.distinct(Iterators.flatMap(WrappedIterator.create(types.iterator()),
                     type -> eg.asGraph().find(Node.ANY, RDF.Nodes.type, type)).mapWith(Triple::getSubject));
         }
+
+        @Override
+        public Stream<Node> parallelFind(EnhGraph eg) {
+            if (types.size() == 1) {
+                return Graphs.parallelFind(eg.asGraph(), Triple.createMatch(Node.ANY, RDF.Nodes.type, types.get(0)))
+                        .map(Triple::getSubject);
+            }
+            return EnhNodeFinder.super.parallelFind(eg);
+        }
     }
 
     class ByPredicate implements EnhNodeFinder {
@@ -35,6 +35,21 @@ public class OntConfig {
         throw new IllegalArgumentException("Config contains value for key = " + key + ", but it is not a boolean");
     }
 
+    public int getInt(Enum<?> key) {
+        return getInt(key.name());
+    }
+
+    public int getInt(String key) {
+        Object value = get(key);
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        throw new IllegalArgumentException("Config contains value for key = " + key + ", but it is not an integer");
+    }
+
     public Object get(String key) {
         return settings.get(key);
     }
@@ -55,6 +70,10 @@ public class OntConfig {
         return set(key, value);
     }
 
+    public OntConfig setInt(Enum<?> key, int value) {
+        return set(key.name(), value);
+    }
+
     public OntConfig set(String key, Object value) {
         Map<String, Object> settings = new HashMap<>(this.settings);
         settings.put(key, value);
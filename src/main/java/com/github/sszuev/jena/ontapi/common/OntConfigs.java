@@ -11,7 +11,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setFalse(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setTrue(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -45,7 +47,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setFalse(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setFalse(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -79,7 +83,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setFalse(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setFalse(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -113,7 +119,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setFalse(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setTrue(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -147,7 +155,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setTrue(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setTrue(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setTrue(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setTrue(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -181,7 +191,9 @@ public class OntConfigs {
             .setTrue(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setTrue(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setTrue(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setTrue(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setTrue(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setTrue(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
@@ -217,7 +229,9 @@ public class OntConfigs {
             .setFalse(OntModelControls.USE_GENERATE_ONTOLOGY_HEADER_IF_ABSENT_STRATEGY)
             .setFalse(OntModelControls.USE_CHOOSE_MOST_SUITABLE_ONTOLOGY_HEADER_STRATEGY)
             .setFalse(OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+            .setFalse(OntModelControls.USE_BUILTIN_INDEXES)
             .setTrue(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS)
+            .setFalse(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)
             .setFalse(OntModelControls.USE_OWL2_DEPRECATED_VOCABULARY_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DATARANGE_DECLARATION_FEATURE)
             .setFalse(OntModelControls.USE_OWL1_DISTINCT_MEMBERS_PREDICATE_FEATURE)
@@ -9,6 +9,7 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.util.iterator.ExtendedIterator;
 
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * A factory wrapper.
@@ -51,6 +52,11 @@ public class WrappedEnhNodeFactory extends BaseEnhNodeFactoryImpl {
         return getDelegate(eg).iterator(eg);
     }
 
+    @Override
+    public Stream<EnhNode> parallelFind(EnhGraph eg) {
+        return getDelegate(eg).parallelFind(eg);
+    }
+
     @Override
     public boolean canWrap(Node node, EnhGraph eg) {
         return getDelegate(eg).canWrap(node, eg);
@@ -0,0 +1,339 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.OntJenaException;
+import com.github.sszuev.jena.ontapi.UnionGraph;
+import com.github.sszuev.jena.ontapi.utils.Iterators;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe {@link UnionGraphImpl UnionGraph} optimized for read-mostly workloads.
+ * <p>
+ * All modifications made through this graph ({@code add}, {@code delete}, {@code remove}, {@code clear},
+ * adding and removing sub-graphs) are performed under the write lock of a {@link StampedLock}.
+ * Reads ({@code contains}, {@code size}, {@code isEmpty}) are performed under the read lock,
+ * so any number of readers may proceed concurrently while there are no writes.
+ * {@link Graph#find(Triple) Find} collects the matching triples into memory under the read lock,
+ * so the returned iterators are not affected by subsequent writes and do not hold any lock;
+ * for large results this costs memory proportional to the number of matching triples.
+ * Sub-graphs are stored in a copy-on-write list,
+ * the cached set of data graphs is published safely (and read with an optimistic stamp).
+ * <p>
+ * Note that thread-safety is guaranteed only for modifications made through this graph:
+ * data graphs and sub-graphs must not be modified directly.
+ * Graph summaries, materialized mode, size tracking and overlap analysis are not supported.
+ */
+public class ConcurrentUnionGraphImpl extends UnionGraphImpl {
+
+    protected final StampedLock lock = new StampedLock();
+    /**
+     * The thread holding the write lock, used to emulate reentrancy.
+     */
+    protected volatile Thread writer;
+    /**
+     * A thread-safe cache of all data graphs (replacement for {@link #descendantBases}).
+     */
+    protected volatile Set<Graph> bases;
+
+    public ConcurrentUnionGraphImpl(Graph base) {
+        this(base, true);
+    }
+
+    public ConcurrentUnionGraphImpl(Graph base, boolean distinct) {
+        this(base, new EventManagerImpl(), distinct);
+    }
+
+    public ConcurrentUnionGraphImpl(Graph base, EventManager eventManager, boolean distinct) {
+        super(base, new SubGraphs(new CopyOnWriteArrayList<>()), eventManager, distinct);
+    }
+
+    @Override
+    public UnionGraphImpl setGraphSummaries(boolean enable) {
+        OntJenaException.checkSupported(!enable, "Graph summaries are not supported by concurrent union graph");
+        return this;
+    }
+
+    @Override
+    public UnionGraphImpl setMaterialized(boolean enable) {
+        OntJenaException.checkSupported(!enable, "Materialized mode is not supported by concurrent union graph");
+        return this;
+    }
+
+    @Override
+    public UnionGraphImpl setSizeTracking(boolean enable) {
+        OntJenaException.checkSupported(!enable, "Size tracking is not supported by concurrent union graph");
+        return this;
+    }
+
+    @Override
+    public UnionGraphImpl setOverlapAnalysis(boolean enable) {
+        OntJenaException.checkSupported(!enable, "Overlap analysis is not supported by concurrent union graph");
+        return this;
+    }
+
+    @Override
+    public void performAdd(Triple t) {
+        long stamp = writeLock();
+        try {
+            super.performAdd(t);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void performDelete(Triple t) {
+        long stamp = writeLock();
+        try {
+            super.performDelete(t);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    protected void performAddAll(List<Triple> triples) {
+        long stamp = writeLock();
+        try {
+            super.performAddAll(triples);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    protected void performDeleteAll(List<Triple> triples) {
+        long stamp = writeLock();
+        try {
+            super.performDeleteAll(triples);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = writeLock();
+        try {
+            super.clear();
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(Node s, Node p, Node o) {
+        long stamp = writeLock();
+        try {
+            super.remove(s, p, o);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public UnionGraph addSubGraph(Graph graph) {
+        long stamp = writeLock();
+        try {
+            return super.addSubGraph(graph);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public UnionGraph removeSubGraph(Graph graph) {
+        long stamp = writeLock();
+        try {
+            return super.removeSubGraph(graph);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    protected void addParent(Graph graph) {
+        if (!(graph instanceof UnionGraphImpl)) {
+            return;
+        }
+        Set<UnionGraphImpl> parents = ((UnionGraphImpl) graph).parents;
+        synchronized (parents) {
+            parents.add(this);
+        }
+    }
+
+    @Override
+    protected void removeUnion(Graph graph) {
+        if (!(graph instanceof UnionGraphImpl)) {
+            return;
+        }
+        Set<UnionGraphImpl> parents = ((UnionGraphImpl) graph).parents;
+        synchronized (parents) {
+            parents.remove(this);
+        }
+    }
+
+    @Override
+    public Stream<UnionGraph> superGraphs() {
+        List<UnionGraph> res;
+        synchronized (parents) {
+            res = new ArrayList<>(parents);
+        }
+        return res.stream();
+    }
+
+    @Override
+    public boolean graphBaseContains(Triple t) {
+        return read(() -> super.graphBaseContains(t));
+    }
+
+    @Override
+    public int graphBaseSize() {
+        // the read lock is not reentrant, so find is not called inside
+        return read(() -> subGraphs.isEmpty()
+                ? base.size()
+                : (int) Math.min(Integer.MAX_VALUE, Iterators.count(super.createFindIterator(Triple.ANY))));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return read(() -> subGraphs.isEmpty()
+                ? base.isEmpty()
+                : Iterators.findFirst(super.createFindIterator(Triple.ANY)).isEmpty());
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> createFindIterator(Triple m) {
+        if (writer == Thread.currentThread()) {
+            return super.createFindIterator(m);
+        }
+        List<Triple> res = read(() -> super.createFindIterator(m).toList());
+        return new MaterializedIterator(res);
+    }
+
+    /**
+     * Lists all triples matching the pattern {@code m} in the form of a parallel {@code Stream}.
+     * The triples are collected into memory under the read lock.
+     *
+     * @param m {@link Triple} pattern, not {@code null}
+     * @return parallel {@code Stream} of {@link Triple}s
+     */
+    @Override
+    public Stream<Triple> parallelFind(Triple m) {
+        return createFindIterator(m).toList().parallelStream();
+    }
+
+    @Override
+    protected Set<Graph> getDescendantBases() {
+        // only a plain field is read optimistically
+        long stamp = lock.tryOptimisticRead();
+        Set<Graph> res = bases;
+        if (res != null && lock.validate(stamp)) {
+            return res;
+        }
+        synchronized (this) {
+            res = bases;
+            if (res == null) {
+                bases = res = Collections.unmodifiableSet(getAllBaseGraphs());
+            }
+            return res;
+        }
+    }
+
+    @Override
+    protected void resetCaches() {
+        synchronized (this) {
+            super.resetCaches();
+            bases = null;
+        }
+    }
+
+    /**
+     * Performs the read operation under the read lock.
+     * If the current thread holds the write lock, the operation is performed without additional locking.
+     * The read lock is not reentrant, and it waits behind a queued writer,
+     * so the operation must not call any other locking method of this graph.
+     *
+     * @param operation {@link Supplier}
+     * @param <X>       the type of result
+     * @return {@link X}
+     */
+    protected <X> X read(Supplier<X> operation) {
+        if (writer == Thread.currentThread()) {
+            return operation.get();
+        }
+        long stamp = lock.readLock();
+        try {
+            return operation.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    protected long writeLock() {
+        if (writer == Thread.currentThread()) {
+            return 0;
+        }
+        long res = lock.writeLock();
+        writer = Thread.currentThread();
+        return res;
+    }
+
+    protected void unlockWrite(long stamp) {
+        if (stamp == 0) {
+            return;
+        }
+        writer = null;
+        lock.unlockWrite(stamp);
+    }
+
+    /**
+     * An iterator over the triples collected under the read lock.
+     * Removal deletes the current triple from the base graph under the write lock.
+     */
+    protected class MaterializedIterator extends NiceIterator<Triple> {
+        private final Iterator<Triple> base;
+        private Triple current;
+
+        protected MaterializedIterator(List<Triple> triples) {
+            this.base = triples.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return base.hasNext();
+        }
+
+        @Override
+        public Triple next() {
+            return current = base.next();
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            long stamp = writeLock();
+            try {
+                ConcurrentUnionGraphImpl.this.base.delete(current);
+            } finally {
+                unlockWrite(stamp);
+            }
+            current = null;
+        }
+    }
+}
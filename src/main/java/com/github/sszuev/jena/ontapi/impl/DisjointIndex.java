@@ -0,0 +1,154 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An index of class disjointness.
+ * Takes into account {@code owl:disjointWith} pairs
+ * and groups of pairwise disjoint classes ({@code owl:AllDisjointClasses}).
+ * A group is stored once and shared by all its members, so large {@code owl:AllDisjointClasses} do not produce
+ * a quadratic number of pairs.
+ * Used to test disjointness of classes, see {@link com.github.sszuev.jena.ontapi.model.OntClass#isDisjoint(org.apache.jena.rdf.model.Resource)}.
+ * <p>
+ * The index is built on demand with a single pass over the model.
+ * When an {@code owl:disjointWith} triple is added or deleted, only the pair for its subject and object is recomputed.
+ * Changes that may affect typing or lists (declarations and triples with blank subjects)
+ * reset the index completely.
+ *
+ * @see OntModelIndexes
+ */
+public class DisjointIndex {
+    private static final Node DISJOINT_WITH = OWL.disjointWith.asNode();
+
+    protected final Supplier<Stream<Node[]>> listPairs;
+    protected final Supplier<Stream<Set<Node>>> listGroups;
+    protected final BiPredicate<Node, Node> testPair;
+    protected final Predicate<Node> isReserved;
+    /**
+     * Class to classes, which are disjoint with it via {@code owl:disjointWith}, {@code null} if not built.
+     */
+    protected Map<Node, Set<Node>> pairs;
+    /**
+     * Class to groups of pairwise disjoint classes, which contain it, {@code null} if not built.
+     */
+    protected Map<Node, List<Set<Node>>> groups;
+
+    /**
+     * Creates an index.
+     *
+     * @param listPairs  a {@code Supplier} of all {@code owl:disjointWith} pairs (arrays of two class nodes)
+     * @param listGroups a {@code Supplier} of all groups of pairwise disjoint classes
+     * @param testPair   a {@code BiPredicate} to test whether two nodes are disjoint classes via {@code owl:disjointWith}
+     *                   (in any direction)
+     * @param isReserved a {@code Predicate} to test reserved types (e.g. {@code owl:Class}),
+     *                   triples {@code x rdf:type reserved} reset the index
+     */
+    public DisjointIndex(Supplier<Stream<Node[]>> listPairs,
+                         Supplier<Stream<Set<Node>>> listGroups,
+                         BiPredicate<Node, Node> testPair,
+                         Predicate<Node> isReserved) {
+        this.listPairs = Objects.requireNonNull(listPairs);
+        this.listGroups = Objects.requireNonNull(listGroups);
+        this.testPair = Objects.requireNonNull(testPair);
+        this.isReserved = Objects.requireNonNull(isReserved);
+    }
+
+    /**
+     * Answers {@code true} if the given classes are disjoint.
+     *
+     * @param left  class {@link Node}
+     * @param right class {@link Node}
+     * @return boolean
+     */
+    public synchronized boolean isDisjoint(Node left, Node right) {
+        build();
+        if (pairs.getOrDefault(left, Set.of()).contains(right)) {
+            return true;
+        }
+        List<Set<Node>> leftGroups = groups.getOrDefault(left, List.of());
+        List<Set<Node>> rightGroups = groups.getOrDefault(right, List.of());
+        if (leftGroups.size() > rightGroups.size()) {
+            return rightGroups.stream().anyMatch(it -> it.contains(left));
+        }
+        return leftGroups.stream().anyMatch(it -> it.contains(right));
+    }
+
+    /**
+     * Called when a triple is added into or deleted from some data graph.
+     *
+     * @param triple {@link Triple}
+     */
+    public synchronized void onChange(Triple triple) {
+        if (pairs == null) {
+            return;
+        }
+        Node predicate = triple.getPredicate();
+        if (DISJOINT_WITH.equals(predicate)) {
+            Node subject = triple.getSubject();
+            Node object = triple.getObject();
+            removePair(subject, object);
+            if (!subject.equals(object) && testPair.test(subject, object)) {
+                addPair(subject, object);
+            }
+            return;
+        }
+        if (triple.getSubject().isBlank() ||
+                (RDF.Nodes.type.equals(predicate) && isReserved.test(triple.getObject()))) {
+            reset();
+        }
+    }
+
+    /**
+     * Resets the index completely.
+     */
+    public synchronized void reset() {
+        pairs = null;
+        groups = null;
+    }
+
+    private void build() {
+        if (pairs != null) {
+            return;
+        }
+        pairs = new HashMap<>();
+        groups = new HashMap<>();
+        try (Stream<Node[]> stream = listPairs.get()) {
+            stream.forEach(it -> addPair(it[0], it[1]));
+        }
+        try (Stream<Set<Node>> stream = listGroups.get()) {
+            stream.forEach(group -> group.forEach(it -> groups.computeIfAbsent(it, x -> new ArrayList<>()).add(group)));
+        }
+    }
+
+    private void addPair(Node left, Node right) {
+        pairs.computeIfAbsent(left, it -> new HashSet<>()).add(right);
+        pairs.computeIfAbsent(right, it -> new HashSet<>()).add(left);
+    }
+
+    private void removePair(Node left, Node right) {
+        removeValue(left, right);
+        removeValue(right, left);
+    }
+
+    private void removeValue(Node key, Node value) {
+        Set<Node> values = pairs.get(key);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            pairs.remove(key);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.model.OntProperty;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.vocabulary.RDFS;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An inverse index of property domains: class to properties, which have this class as {@code rdfs:domain}.
+ * Domains {@code owl:Thing} and {@code rdfs:Resource} are ignored,
+ * properties without other domains are global (i.e. they are applicable to any class).
+ * Used to find declared properties of classes, see {@link com.github.sszuev.jena.ontapi.model.OntClass#declaredProperties(boolean)}.
+ * <p>
+ * The index is built on demand with a single pass over all properties.
+ * When an {@code rdfs:domain} triple is added or deleted, only the entry for its subject is recomputed.
+ * Changes that may affect typing (declarations and triples with blank subjects) reset the index completely.
+ *
+ * @see OntModelIndexes
+ */
+public class DomainIndex {
+    private static final Node DOMAIN = RDFS.domain.asNode();
+
+    protected final Supplier<Stream<OntProperty>> listProperties;
+    protected final Predicate<Node> isReserved;
+    /**
+     * Property node to the property and its domains, {@code null} if not built.
+     */
+    protected Map<Node, Entry> entries;
+    /**
+     * Domain to properties, {@code null} if not built.
+     */
+    protected Map<Node, Set<OntProperty>> properties;
+    /**
+     * Properties without domains, {@code null} if not built.
+     */
+    protected Set<OntProperty> globals;
+
+    /**
+     * Creates an index.
+     *
+     * @param listProperties a {@code Supplier} of all properties that can be declared properties of classes,
+     *                       the stream may contain duplicates
+     * @param isReserved     a {@code Predicate} to test reserved types (e.g. {@code owl:Class}),
+     *                       triples {@code x rdf:type reserved} reset the index
+     */
+    public DomainIndex(Supplier<Stream<OntProperty>> listProperties, Predicate<Node> isReserved) {
+        this.listProperties = Objects.requireNonNull(listProperties);
+        this.isReserved = Objects.requireNonNull(isReserved);
+    }
+
+    private static Set<Node> listDomains(OntProperty property) {
+        try (Stream<? extends RDFNode> domains = property.domains()) {
+            return domains.map(RDFNode::asNode)
+                    .filter(it -> !OWL.Thing.asNode().equals(it) && !RDFS.Resource.asNode().equals(it))
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    /**
+     * Lists properties that have any of the given classes as domain,
+     * and all global properties if {@code withGlobals} is {@code true}.
+     *
+     * @param classes     {@code Collection} of class {@link Node}s
+     * @param withGlobals if {@code true} global properties are included
+     * @return {@code Set} of {@link OntProperty}s
+     */
+    public synchronized Set<OntProperty> candidates(Collection<Node> classes, boolean withGlobals) {
+        build();
+        Set<OntProperty> res = new HashSet<>();
+        if (withGlobals) {
+            res.addAll(globals);
+        }
+        classes.forEach(it -> res.addAll(properties.getOrDefault(it, Set.of())));
+        return res;
+    }
+
+    /**
+     * Returns the domains of the given property, excluding {@code owl:Thing} and {@code rdfs:Resource}.
+     *
+     * @param property {@link OntProperty}
+     * @return unmodifiable {@code Set} of {@link Node}s, empty for a global property,
+     * {@code null} if the property is not indexed (e.g. it is builtin)
+     */
+    public synchronized Set<Node> domains(OntProperty property) {
+        build();
+        Entry res = entries.get(property.asNode());
+        return res == null ? null : res.domains;
+    }
+
+    /**
+     * Called when a triple is added into or deleted from some data graph.
+     *
+     * @param triple {@link Triple}
+     */
+    public synchronized void onChange(Triple triple) {
+        if (entries == null) {
+            return;
+        }
+        Node subject = triple.getSubject();
+        if (subject.isBlank() ||
+                (RDF.Nodes.type.equals(triple.getPredicate()) && isReserved.test(triple.getObject()))) {
+            reset();
+            return;
+        }
+        if (!DOMAIN.equals(triple.getPredicate())) {
+            return;
+        }
+        Entry entry = entries.get(subject);
+        if (entry == null) {
+            // may be a property, which is not indexed yet
+            reset();
+            return;
+        }
+        remove(entry);
+        add(new Entry(entry.property, listDomains(entry.property)));
+    }
+
+    /**
+     * Resets the index completely.
+     */
+    public synchronized void reset() {
+        entries = null;
+        properties = null;
+        globals = null;
+    }
+
+    private void build() {
+        if (entries != null) {
+            return;
+        }
+        entries = new HashMap<>();
+        properties = new HashMap<>();
+        globals = new HashSet<>();
+        try (Stream<OntProperty> stream = listProperties.get()) {
+            stream.forEach(it -> {
+                if (!entries.containsKey(it.asNode())) {
+                    add(new Entry(it, listDomains(it)));
+                }
+            });
+        }
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.property.asNode(), entry);
+        if (entry.domains.isEmpty()) {
+            globals.add(entry.property);
+            return;
+        }
+        entry.domains.forEach(it -> properties.computeIfAbsent(it, x -> new HashSet<>()).add(entry.property));
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.property.asNode());
+        globals.remove(entry.property);
+        entry.domains.forEach(it -> {
+            Set<OntProperty> values = properties.get(it);
+            if (values != null && values.remove(entry.property) && values.isEmpty()) {
+                properties.remove(it);
+            }
+        });
+    }
+
+    /**
+     * A property with its domains.
+     */
+    protected static final class Entry {
+        private final OntProperty property;
+        private final Set<Node> domains;
+
+        private Entry(OntProperty property, Set<Node> domains) {
+            this.property = property;
+            this.domains = domains;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A compact summary of a data {@link Graph}, that is used to skip graphs which cannot contain a triple pattern.
+ * It consists of the set of predicates and two Bloom filters: for subjects and for objects.
+ * <p>
+ * The summary is conservative:
+ * it may answer {@code true} for a pattern that is absent in the graph,
+ * but never answers {@code false} for a pattern that is present.
+ * It is kept current by listening to the events of the summarized graph
+ * (it must be {@link #register() registered} in the graph's event manager).
+ * The registered listener holds the summary via weak reference,
+ * so a summary that is no longer used is not kept alive by a shared data graph;
+ * once the summary is collected, the listener unregisters itself on the next event.
+ * Deletions do not shrink the summary, since graph events do not tell whether a deleted triple was actually present;
+ * the summary is rebuilt lazily when it becomes too loose.
+ */
+public class GraphSummary {
+    private static final int MIN_CAPACITY = 64;
+    // two filters of 256K longs (~4 MB per graph); larger graphs just get a saturated (less selective) summary
+    private static final int MAX_CAPACITY = 1 << 20;
+    private static final int BITS_PER_ITEM = 10;
+
+    private final Graph graph;
+    private final int maxCapacity;
+    private final Listener listener = new Listener(this);
+    private Set<Node> predicates;
+    private long[] subjects;
+    private long[] objects;
+    private int capacity;
+    private int count;
+    private boolean stale = true;
+
+    public GraphSummary(Graph graph) {
+        this(graph, MAX_CAPACITY);
+    }
+
+    protected GraphSummary(Graph graph, int maxCapacity) {
+        this.graph = Objects.requireNonNull(graph);
+        this.maxCapacity = maxCapacity;
+    }
+
+    /**
+     * Returns the summarized graph.
+     *
+     * @return {@link Graph}, not {@code null}
+     */
+    public Graph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Registers this summary in the event manager of the summarized graph.
+     *
+     * @return this instance
+     */
+    public GraphSummary register() {
+        graph.getEventManager().register(listener);
+        return this;
+    }
+
+    /**
+     * Unregisters this summary from the event manager of the summarized graph.
+     */
+    public void unregister() {
+        graph.getEventManager().unregister(listener);
+    }
+
+    /**
+     * Answers {@code false} if the summarized graph definitely does not contain any triple matching the pattern.
+     *
+     * @param pattern {@link Triple} pattern, not {@code null}
+     * @return boolean
+     */
+    public boolean mayContain(Triple pattern) {
+        prepare();
+        Node p = pattern.getPredicate();
+        if (p.isConcrete() && !predicates.contains(p)) {
+            return false;
+        }
+        Node s = pattern.getSubject();
+        if (s.isConcrete() && !test(subjects, s)) {
+            return false;
+        }
+        Node o = pattern.getObject();
+        return !o.isConcrete() || test(objects, o);
+    }
+
+    /**
+     * Recalculates this summary if it is out of date.
+     */
+    public void prepare() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Marks this summary as out of date; it will be recalculated on the next request.
+     */
+    public void reset() {
+        stale = true;
+        predicates = null;
+        subjects = null;
+        objects = null;
+    }
+
+    protected void rebuild() {
+        capacity = Math.min(maxCapacity, Math.max(MIN_CAPACITY, graph.size()));
+        int words = Math.max(1, Integer.highestOneBit(capacity * BITS_PER_ITEM - 1) >>> 5);
+        predicates = new HashSet<>();
+        subjects = new long[words];
+        objects = new long[words];
+        count = 0;
+        stale = false;
+        ExtendedIterator<Triple> it = graph.find();
+        try {
+            while (it.hasNext()) {
+                // no reset while rebuilding: for a huge graph the filters are just saturated
+                insert(it.next());
+                count++;
+            }
+        } finally {
+            it.close();
+        }
+    }
+
+    protected void record(Triple t) {
+        insert(t);
+        if (++count > 2 * capacity) {
+            // too many insertions, the false positive rate is high
+            reset();
+        }
+    }
+
+    private void insert(Triple t) {
+        predicates.add(t.getPredicate());
+        put(subjects, t.getSubject());
+        put(objects, t.getObject());
+    }
+
+    private static void put(long[] bits, Node node) {
+        int h1 = hash(node);
+        int h2 = Integer.rotateLeft(h1, 16) | 1;
+        int mask = (bits.length << 6) - 1;
+        for (int i = 0; i < 3; i++) {
+            int index = (h1 + i * h2) & mask;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private static boolean test(long[] bits, Node node) {
+        int h1 = hash(node);
+        int h2 = Integer.rotateLeft(h1, 16) | 1;
+        int mask = (bits.length << 6) - 1;
+        for (int i = 0; i < 3; i++) {
+            int index = (h1 + i * h2) & mask;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(Node node) {
+        // literals are matched by value (e.g. "1"^^xsd:int and "01"^^xsd:int), so use the indexing value
+        int h = node.getIndexingValue().hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Called when a triple is added into the summarized graph.
+     *
+     * @param t {@link Triple}
+     */
+    protected void onAdd(Triple t) {
+        if (!stale) {
+            record(t);
+        }
+    }
+
+    /**
+     * Called when all triples are removed from the summarized graph.
+     */
+    protected void onClear() {
+        reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GraphSummary{graph=%s, predicates=%s}", graph, stale ? "?" : predicates.size());
+    }
+
+    /**
+     * A listener to be registered in the event manager of the summarized graph.
+     * Deletions are ignored, since the summary is conservative.
+     */
+    protected static class Listener extends GraphListenerBase {
+        private final WeakReference<GraphSummary> summary;
+
+        protected Listener(GraphSummary summary) {
+            this.summary = new WeakReference<>(summary);
+        }
+
+        private GraphSummary get(Graph source) {
+            GraphSummary res = summary.get();
+            if (res == null) {
+                source.getEventManager().unregister(this);
+            }
+            return res;
+        }
+
+        @Override
+        protected void addTripleEvent(Graph g, Triple t) {
+            GraphSummary res = get(g);
+            if (res != null) {
+                res.onAdd(t);
+            }
+        }
+
+        @Override
+        protected void deleteTripleEvent(Graph g, Triple t) {
+            // nothing: the summary is conservative
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            GraphSummary res = get(g);
+            if (res != null && !res.stale) {
+                added.find().forEachRemaining(res::onAdd);
+            }
+            super.notifyAddGraph(g, added);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object event) {
+            if (event == GraphEvents.removeAll) {
+                GraphSummary res = get(source);
+                if (res != null) {
+                    res.onClear();
+                }
+            }
+            super.notifyEvent(source, event);
+        }
+    }
+}
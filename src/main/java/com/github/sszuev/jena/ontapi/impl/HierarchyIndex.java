@@ -0,0 +1,461 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.model.OntObject;
+import com.github.sszuev.jena.ontapi.utils.Iterators;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An index of a resource hierarchy, that is built on a single predicate (e.g. {@code rdfs:subClassOf}).
+ * It holds explicit adjacency in both directions (in the form of {@link Node}s)
+ * and memoizes results of hierarchy queries (children, direct and indirect tree nodes)
+ * in the form of {@link OntObject}s, see {@link #subs()} and {@link #supers()}.
+ * <p>
+ * The adjacency is built on demand with a single pass over the graph,
+ * and then it is updated incrementally when a triple with the predicate is added or deleted.
+ * In this case the memoized results are invalidated only for the affected nodes,
+ * i.e. for the nodes whose sub-tree or super-tree contains the changed edge.
+ * Changes that may affect typing of nodes (e.g. declarations) invalidate all memoized results,
+ * but the adjacency is kept.
+ * For subsumption checks each tree view also provides {@link ReachabilityLabels},
+ * which are rebuilt lazily after any change of the hierarchy, see {@link Tree#reaches(OntObject, OntObject)}.
+ * The index is not thread-safe for modifications, but it can be read concurrently.
+ *
+ * @param <X> subtype of {@link OntObject}
+ * @see OntModelIndexes
+ */
+public class HierarchyIndex<X extends OntObject> {
+    protected final Graph graph;
+    protected final Node predicate;
+    protected final Tree subs;
+    protected final Tree supers;
+    /**
+     * Subject to objects, {@code null} if not built.
+     */
+    protected Map<Node, Set<Node>> up;
+    /**
+     * Object to subjects, {@code null} if not built.
+     */
+    protected Map<Node, Set<Node>> down;
+    /**
+     * Memoized roots, {@code null} if not computed or invalidated.
+     */
+    protected volatile Set<X> roots;
+
+    /**
+     * Creates an index.
+     *
+     * @param graph     {@link Graph} to build the adjacency, not {@code null}
+     * @param predicate {@link Node} - the hierarchy predicate, not {@code null}
+     * @param asSub     a {@code Function} to map a subject of a hierarchy triple to {@link X}, may return {@code null}
+     * @param asSuper   a {@code Function} to map an object of a hierarchy triple to {@link X}, may return {@code null}
+     */
+    public HierarchyIndex(Graph graph, Node predicate, Function<Node, X> asSub, Function<Node, X> asSuper) {
+        this.graph = Objects.requireNonNull(graph);
+        this.predicate = Objects.requireNonNull(predicate);
+        this.subs = new Tree(Objects.requireNonNull(asSub), true);
+        this.supers = new Tree(Objects.requireNonNull(asSuper), false);
+    }
+
+    /**
+     * Returns a tree view, where the children of a node are its explicit subs (e.g. subclasses).
+     *
+     * @return {@link Tree}
+     */
+    public Tree subs() {
+        return subs;
+    }
+
+    /**
+     * Returns a tree view, where the children of a node are its explicit supers (e.g. superclasses).
+     *
+     * @return {@link Tree}
+     */
+    public Tree supers() {
+        return supers;
+    }
+
+    /**
+     * Answers the hierarchy predicate.
+     *
+     * @return {@link Node}
+     */
+    public Node getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Answers {@code true} if triples with the given predicate form the hierarchy edges.
+     *
+     * @param predicate {@link Node}
+     * @return boolean
+     */
+    public boolean isHierarchyPredicate(Node predicate) {
+        return this.predicate.equals(predicate);
+    }
+
+    /**
+     * Answers {@code true} if the given node participates in the hierarchy (as a subject or as an object).
+     * Note that it does not build the index, if the index is not built, {@code false} is returned.
+     *
+     * @param node {@link Node}
+     * @return boolean
+     */
+    public synchronized boolean contains(Node node) {
+        return up != null && (up.containsKey(node) || down.containsKey(node));
+    }
+
+    /**
+     * Called when a triple is added into the graph.
+     *
+     * @param triple {@link Triple}
+     */
+    public synchronized void onAdd(Triple triple) {
+        if (up == null || !predicate.equals(triple.getPredicate())) {
+            return;
+        }
+        Node s = triple.getSubject();
+        Node o = triple.getObject();
+        if (!up.computeIfAbsent(s, it -> new HashSet<>()).add(o)) {
+            return;
+        }
+        down.computeIfAbsent(o, it -> new HashSet<>()).add(s);
+        invalidate(s, o);
+    }
+
+    /**
+     * Called when a triple is deleted from the graph.
+     *
+     * @param triple {@link Triple}
+     */
+    public synchronized void onDelete(Triple triple) {
+        if (up == null || !predicate.equals(triple.getPredicate())) {
+            return;
+        }
+        if (graph.contains(triple)) {
+            // the triple is still present in some other data graph
+            return;
+        }
+        Node s = triple.getSubject();
+        Node o = triple.getObject();
+        if (!remove(up, s, o)) {
+            return;
+        }
+        remove(down, o, s);
+        invalidate(s, o);
+    }
+
+    /**
+     * Returns the roots of the hierarchy, see {@link HierarchySupport#roots(Collection, Function, Predicate, Predicate)}.
+     * The result is memoized until the hierarchy changes,
+     * so the same arguments are expected for all calls.
+     *
+     * @param listNodes a {@code Supplier} of all candidate nodes
+     * @param ignore    a {@code Predicate} to test supers that do not prevent a node from being a root
+     * @param isRoot    a {@code Predicate} to test a member of a cycle
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    public Set<X> roots(Supplier<Stream<X>> listNodes, Predicate<X> ignore, Predicate<X> isRoot) {
+        Set<X> res = roots;
+        if (res != null) {
+            return res;
+        }
+        List<X> nodes;
+        try (Stream<X> stream = listNodes.get()) {
+            nodes = stream.collect(Collectors.toList());
+        }
+        res = Collections.unmodifiableSet(HierarchySupport.roots(nodes, supers::children, ignore, isRoot));
+        roots = res;
+        return res;
+    }
+
+    /**
+     * Invalidates all memoized results, but keeps the adjacency.
+     * Called when the typing of nodes may be changed.
+     */
+    public void invalidate() {
+        roots = null;
+        subs.clear();
+        supers.clear();
+    }
+
+    /**
+     * Resets the index completely.
+     */
+    public synchronized void reset() {
+        up = null;
+        down = null;
+        invalidate();
+    }
+
+    private void invalidate(Node s, Node o) {
+        roots = null;
+        // the sub-tree of any ancestor of the object is changed
+        subs.invalidate(o, up);
+        // the super-tree of any descendant of the subject is changed
+        supers.invalidate(s, down);
+    }
+
+    private static boolean remove(Map<Node, Set<Node>> map, Node key, Node value) {
+        Set<Node> values = map.get(key);
+        if (values == null || !values.remove(value)) {
+            return false;
+        }
+        if (values.isEmpty()) {
+            map.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the adjacency (subject to objects), building it if needed.
+     *
+     * @return {@code Map}
+     */
+    protected synchronized Map<Node, Set<Node>> adjacency() {
+        if (up != null) {
+            return up;
+        }
+        Map<Node, Set<Node>> up = new HashMap<>();
+        Map<Node, Set<Node>> down = new HashMap<>();
+        loadEdges((sub, sup) -> {
+            up.computeIfAbsent(sub, it -> new HashSet<>()).add(sup);
+            down.computeIfAbsent(sup, it -> new HashSet<>()).add(sub);
+        });
+        this.down = down;
+        return this.up = up;
+    }
+
+    /**
+     * Passes all hierarchy edges (sub, super) from the graph to the given consumer.
+     *
+     * @param edges {@code BiConsumer} accepting sub and super nodes
+     */
+    protected void loadEdges(BiConsumer<Node, Node> edges) {
+        find(predicate, edges);
+    }
+
+    /**
+     * Passes subjects and objects of all triples with the given predicate to the given consumer.
+     *
+     * @param predicate {@link Node}
+     * @param action    {@code BiConsumer} accepting subject and object
+     */
+    protected void find(Node predicate, BiConsumer<Node, Node> action) {
+        ExtendedIterator<Triple> triples = graph.find(Node.ANY, predicate, Node.ANY);
+        try {
+            while (triples.hasNext()) {
+                Triple t = triples.next();
+                action.accept(t.getSubject(), t.getObject());
+            }
+        } finally {
+            triples.close();
+        }
+    }
+
+    private synchronized Set<Node> edges(Node node, boolean sub) {
+        adjacency();
+        Set<Node> res = (sub ? down : up).get(node);
+        return res == null ? Set.of() : new HashSet<>(res);
+    }
+
+    /**
+     * A view of the hierarchy in one direction with memoized results.
+     */
+    public class Tree {
+        private final Function<Node, X> mapping;
+        private final boolean sub;
+        private final Map<Node, Set<X>> children = new ConcurrentHashMap<>();
+        private final Map<Node, Set<X>> indirect = new ConcurrentHashMap<>();
+        private final Map<Node, Set<X>> direct = new ConcurrentHashMap<>();
+        private final Map<Node, Set<X>> directStandard = new ConcurrentHashMap<>();
+        private volatile ReachabilityLabels labels;
+
+        protected Tree(Function<Node, X> mapping, boolean sub) {
+            this.mapping = mapping;
+            this.sub = sub;
+        }
+
+        /**
+         * Returns explicit children of the given node.
+         *
+         * @param node {@link X}
+         * @return unmodifiable {@code Set} of {@link X}
+         */
+        public Set<X> children(X node) {
+            Node key = node.asNode();
+            Set<X> res = children.get(key);
+            if (res != null) {
+                return res;
+            }
+            Set<X> set = new HashSet<>();
+            for (Node child : edges(key, sub)) {
+                X x = mapping.apply(child);
+                if (x != null) {
+                    set.add(x);
+                }
+            }
+            res = Collections.unmodifiableSet(set);
+            children.put(key, res);
+            return res;
+        }
+
+        /**
+         * Returns all nodes from the tree for the given root (the transitive closure), the root is not included.
+         *
+         * @param root {@link X}
+         * @return unmodifiable {@code Set} of {@link X}
+         */
+        public Set<X> indirect(X root) {
+            Node key = root.asNode();
+            Set<X> res = indirect.get(key);
+            if (res != null) {
+                return res;
+            }
+            Set<X> set = new HashSet<>();
+            HierarchySupport.collectIndirect(root, this::children, set);
+            set.remove(root);
+            res = Collections.unmodifiableSet(set);
+            indirect.put(key, res);
+            return res;
+        }
+
+        /**
+         * Returns the direct (adjacent) nodes for the given root.
+         *
+         * @param root                       {@link X}
+         * @param useBuiltinHierarchySupport if {@code true} equivalents and transitive paths are taken into account
+         * @return unmodifiable {@code Set} of {@link X}
+         */
+        public Set<X> direct(X root, boolean useBuiltinHierarchySupport) {
+            Map<Node, Set<X>> cache = useBuiltinHierarchySupport ? direct : directStandard;
+            Node key = root.asNode();
+            Set<X> res = cache.get(key);
+            if (res != null) {
+                return res;
+            }
+            res = Collections.unmodifiableSet(useBuiltinHierarchySupport ?
+                    HierarchySupport.directNodesAsSetWithBuiltinInf(root, this::listChildren) :
+                    HierarchySupport.directNodesAsSetStandard(root, this::listChildren));
+            cache.put(key, res);
+            return res;
+        }
+
+        /**
+         * Lists tree nodes for the given root.
+         * This is a memoized equivalent of {@link HierarchySupport#treeNodes(OntObject, Function, boolean, boolean)}.
+         *
+         * @param root                       the root of tree
+         * @param direct                     if {@code true}, only return the direct (adjacent) values
+         * @param useBuiltinHierarchySupport if {@code true} collect a nodes' tree by traversing the graph
+         * @return a {@link Stream} of tree nodes
+         */
+        public Stream<X> treeNodes(X root, boolean direct, boolean useBuiltinHierarchySupport) {
+            if (direct) {
+                return Iterators.fromSet(() -> direct(root, useBuiltinHierarchySupport));
+            }
+            if (useBuiltinHierarchySupport) {
+                return Iterators.fromSet(() -> indirect(root));
+            }
+            return children(root).stream().filter(x -> !root.equals(x));
+        }
+
+        /**
+         * Answers {@code true} if the {@code test} node belongs to the tree of the given {@code root},
+         * i.e. it is contained in the set {@link #indirect(OntObject)}, but without building that set.
+         *
+         * @param root {@link X}
+         * @param test {@link X}
+         * @return boolean
+         */
+        public boolean reaches(X root, X test) {
+            return !root.equals(test) && labels().reaches(root.asNode(), test.asNode());
+        }
+
+        /**
+         * Returns the reachability labels for this tree, building them if needed.
+         *
+         * @return {@link ReachabilityLabels}
+         */
+        protected ReachabilityLabels labels() {
+            ReachabilityLabels res = labels;
+            if (res != null) {
+                return res;
+            }
+            synchronized (HierarchyIndex.this) {
+                if (labels == null) {
+                    adjacency();
+                    Map<Node, Boolean> mapped = new HashMap<>();
+                    labels = ReachabilityLabels.build(sub ? down : up,
+                            node -> mapped.computeIfAbsent(node, it -> mapping.apply(it) != null));
+                }
+                return labels;
+            }
+        }
+
+        /**
+         * Lists explicit children of the given node.
+         *
+         * @param node {@link X}
+         * @return {@code Stream} of {@link X}
+         */
+        public Stream<X> listChildren(X node) {
+            return children(node).stream();
+        }
+
+        /**
+         * Invalidates the memoized results for the given node and all nodes whose trees contain it.
+         *
+         * @param node    {@link Node} whose explicit children have been changed
+         * @param parents adjacency to find nodes whose trees contain the given node
+         */
+        void invalidate(Node node, Map<Node, Set<Node>> parents) {
+            children.remove(node);
+            labels = null;
+            if (indirect.isEmpty() && direct.isEmpty() && directStandard.isEmpty()) {
+                return;
+            }
+            Set<Node> seen = new HashSet<>();
+            Deque<Node> queue = new ArrayDeque<>();
+            queue.add(node);
+            while (!queue.isEmpty()) {
+                Node next = queue.removeFirst();
+                if (!seen.add(next)) {
+                    continue;
+                }
+                indirect.remove(next);
+                direct.remove(next);
+                directStandard.remove(next);
+                queue.addAll(parents.getOrDefault(next, Set.of()));
+            }
+        }
+
+        void clear() {
+            labels = null;
+            children.clear();
+            indirect.clear();
+            direct.clear();
+            directStandard.clear();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.UnionGraph;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntHierarchySession;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.RDFS;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * A model-wide memo of class closures, shared by all open {@link OntHierarchySession}s of the model.
+ * The memo is thread-safe, values are computed outside of locks
+ * (the same closure may be computed concurrently by several threads, but only one value is stored).
+ * A listener registered in all data graphs and {@link UnionGraph}s of the model hierarchy
+ * clears the memo on any change that may affect the class hierarchy:
+ * {@code rdfs:subClassOf} triples and changes of class typing
+ * (see {@link OntModelIndexes#isTypingChange(OntGraphModelImpl, Triple)}),
+ * as well as any change of the hierarchy structure;
+ * class assertions and annotations keep the memo.
+ *
+ * @see OntGraphModelImpl#hierarchySession()
+ */
+public class HierarchySession {
+    protected final OntGraphModelImpl model;
+    protected final Listener listener = new Listener();
+    /**
+     * The graphs in whose event managers the {@link #listener} is registered, guarded by this.
+     */
+    protected final Set<Graph> listenedGraphs = new HashSet<>();
+    protected volatile Map<OntClass, Set<OntClass>> superClasses = new ConcurrentHashMap<>();
+    protected volatile Map<OntClass, Set<OntClass>> subClasses = new ConcurrentHashMap<>();
+    // guarded by this
+    private int opened;
+    private volatile boolean active;
+
+    protected HierarchySession(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+    }
+
+    /**
+     * Returns the memoized superclass closure of the given class.
+     *
+     * @param clazz   {@link OntClass}
+     * @param compute a {@code Function} to compute the closure if it is absent
+     * @return unmodifiable {@code Set} of {@link OntClass}es
+     */
+    public Set<OntClass> superClasses(OntClass clazz, Function<OntClass, Set<OntClass>> compute) {
+        return get(superClasses, clazz, compute);
+    }
+
+    /**
+     * Returns the memoized subclass closure of the given class.
+     *
+     * @param clazz   {@link OntClass}
+     * @param compute a {@code Function} to compute the closure if it is absent
+     * @return unmodifiable {@code Set} of {@link OntClass}es
+     */
+    public Set<OntClass> subClasses(OntClass clazz, Function<OntClass, Set<OntClass>> compute) {
+        return get(subClasses, clazz, compute);
+    }
+
+    private static Set<OntClass> get(Map<OntClass, Set<OntClass>> memo,
+                                     OntClass clazz,
+                                     Function<OntClass, Set<OntClass>> compute) {
+        Set<OntClass> res = memo.get(clazz);
+        if (res != null) {
+            return res;
+        }
+        res = Collections.unmodifiableSet(compute.apply(clazz));
+        Set<OntClass> prev = memo.putIfAbsent(clazz, res);
+        return prev != null ? prev : res;
+    }
+
+    /**
+     * Clears the memo.
+     * Values that are being computed at the moment are stored into the discarded maps.
+     * The maps are replaced even if they are empty, since a value may be in progress
+     * (a new empty {@code ConcurrentHashMap} is cheap, its table is allocated lazily).
+     */
+    public void clear() {
+        superClasses = new ConcurrentHashMap<>();
+        subClasses = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Opens a new session handle.
+     *
+     * @return {@link OntHierarchySession}
+     */
+    protected synchronized OntHierarchySession open() {
+        if (opened++ == 0) {
+            OntModelIndexes.updateListeners(model, listener, listenedGraphs);
+            active = true;
+        }
+        AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Releases a session handle.
+     *
+     * @return {@code true} if there are no more open handles
+     */
+    protected synchronized boolean release() {
+        if (--opened > 0) {
+            return false;
+        }
+        active = false;
+        listenedGraphs.forEach(g -> g.getEventManager().unregister(listener));
+        listenedGraphs.clear();
+        clear();
+        return true;
+    }
+
+    /**
+     * Answers {@code true} if there is at least one open session handle.
+     *
+     * @return boolean
+     */
+    public boolean isOpen() {
+        return active;
+    }
+
+    /**
+     * Re-registers the {@link #listener} after the structure of the hierarchy is changed.
+     */
+    protected synchronized void onStructureChange() {
+        if (opened > 0) {
+            OntModelIndexes.updateListeners(model, listener, listenedGraphs);
+        }
+        clear();
+    }
+
+    /**
+     * Answers {@code true} if the triple may change the class hierarchy.
+     *
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected boolean isHierarchyChange(Triple triple) {
+        return RDFS.Nodes.subClassOf.equals(triple.getPredicate()) || OntModelIndexes.isTypingChange(model, triple);
+    }
+
+    /**
+     * A listener to clear the memo on changes of the class hierarchy.
+     * Triple events coming from {@link UnionGraph}s are ignored, since they are duplicated by data graphs.
+     */
+    protected class Listener extends GraphListenerBase implements UnionGraph.Listener {
+
+        @Override
+        protected void addTripleEvent(Graph g, Triple t) {
+            if (!(g instanceof UnionGraph) && isHierarchyChange(t)) {
+                clear();
+            }
+        }
+
+        @Override
+        protected void deleteTripleEvent(Graph g, Triple t) {
+            if (!(g instanceof UnionGraph) && isHierarchyChange(t)) {
+                clear();
+            }
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            onUnknownChange(g);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph removed) {
+            onUnknownChange(g);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            if (value != GraphEvents.startRead && value != GraphEvents.finishRead && !(value instanceof OntModelEvent)) {
+                onUnknownChange(source);
+            }
+        }
+
+        private void onUnknownChange(Graph g) {
+            if (!(g instanceof UnionGraph)) {
+                clear();
+            }
+        }
+
+        @Override
+        public void onAddTriple(UnionGraph graph, Triple triple) {
+        }
+
+        @Override
+        public void onDeleteTriple(UnionGraph graph, Triple triple) {
+        }
+
+        @Override
+        public void onClear(UnionGraph graph) {
+        }
+
+        @Override
+        public void onAddSubGraph(UnionGraph graph, Graph subGraph) {
+        }
+
+        @Override
+        public void onRemoveSubGraph(UnionGraph graph, Graph subGraph) {
+        }
+
+        @Override
+        public void notifySubGraphAdded(UnionGraph graph, Graph subGraph) {
+            onStructureChange();
+        }
+
+        @Override
+        public void notifySuperGraphAdded(UnionGraph graph, UnionGraph superGraph) {
+        }
+
+        @Override
+        public void notifySubGraphRemoved(UnionGraph graph, Graph subGraph) {
+            onStructureChange();
+        }
+    }
+}
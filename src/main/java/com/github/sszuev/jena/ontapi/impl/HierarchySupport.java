@@ -1,17 +1,28 @@
 package com.github.sszuev.jena.ontapi.impl;
 
+import com.github.sszuev.jena.ontapi.OntModelControls;
+import com.github.sszuev.jena.ontapi.common.OntConfig;
+import com.github.sszuev.jena.ontapi.model.OntModel;
 import com.github.sszuev.jena.ontapi.model.OntObject;
 import com.github.sszuev.jena.ontapi.utils.Iterators;
+import com.github.sszuev.jena.ontapi.utils.OntModels;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,7 +31,6 @@ import java.util.stream.Stream;
  * Helper class to handle resource hierarchy.
  */
 public final class HierarchySupport {
-
     /**
      * Answers {@code true} if the specified {@code test} node is in the closure of the specified {@code root} nodes
      *
@@ -39,8 +49,140 @@ public final class HierarchySupport {
             Function<X, Stream<X>> listChildren,
             boolean direct,
             boolean useBuiltinHierarchySupport) {
-        // TODO: optimize
-        return treeNodes(root, listChildren, direct, useBuiltinHierarchySupport).anyMatch(test::equals);
+        return contains(root, test, listChildren, null, direct, useBuiltinHierarchySupport);
+    }
+
+    /**
+     * Answers {@code true} if the specified {@code test} node is in the closure of the specified {@code root} nodes.
+     * Unlike {@link #treeNodes(OntObject, Function, boolean, boolean)} the closure is not materialized:
+     * the search stops as soon as the {@code test} node is reached.
+     * If {@code listParents} is specified, a bidirectional breadth-first search is performed,
+     * expanding the smaller frontier at each step.
+     * In the {@code direct} case only the {@code test} node is checked, not every child of the {@code root};
+     * with builtin hierarchy support the closure of the {@code root} is still collected
+     * (it is needed to find equivalents and alternative paths),
+     * but only if the {@code test} node is reachable, so a negative answer does not require it.
+     *
+     * @param root                       the root of tree
+     * @param test                       object to test
+     * @param listChildren               a {@link Function} that provides {@code Stream} of child nodes for the given parent node;
+     *                                   it is called for the {@code root} first and at most once for each node
+     * @param listParents                a {@link Function} that provides {@code Stream} of parent nodes for the given child node,
+     *                                   i.e. the reverse of {@code listChildren}
+     *                                   (the {@code root} may be omitted from the result); can be {@code null}
+     * @param direct                     if {@code true}, only return the direct (adjacent) values
+     * @param useBuiltinHierarchySupport if {@code true} collect a nodes' tree by traversing the graph,
+     *                                   this parameter is used when there is no reasoner attached to the graph
+     * @param <X>                        any subtype of {@link OntObject}
+     * @return boolean
+     */
+    public static <X extends OntObject> boolean contains(
+            X root,
+            X test,
+            Function<X, Stream<X>> listChildren,
+            Function<X, Stream<X>> listParents,
+            boolean direct,
+            boolean useBuiltinHierarchySupport) {
+        if (direct) {
+            Map<X, Set<X>> childrenNodesCache = new HashMap<>();
+            Function<X, Set<X>> getChildren = it -> getChildren(it, listChildren, childrenNodesCache);
+            if (!useBuiltinHierarchySupport) {
+                return isDirectNodeStandard(root, test, getChildren);
+            }
+            Function<X, Stream<X>> listCachedChildren = it -> getChildren.apply(it).stream();
+            // direct nodes are always reachable
+            return isReachable(root, test, listCachedChildren, listParents) &&
+                    isDirectNodeWithBuiltinInf(root, test, listCachedChildren);
+        }
+        if (root.equals(test)) {
+            return false;
+        }
+        if (!useBuiltinHierarchySupport) {
+            try (Stream<X> children = listChildren.apply(root)) {
+                return children.anyMatch(test::equals);
+            }
+        }
+        return isReachable(root, test, listChildren, listParents);
+    }
+
+    /**
+     * Answers {@code true} if there is a non-empty path from {@code root} to {@code test}.
+     *
+     * @param root         {@link X}
+     * @param test         {@link X}
+     * @param listChildren a {@link Function} that provides {@code Stream} of child nodes for the given parent node
+     * @param listParents  a {@link Function} that provides {@code Stream} of parent nodes
+     *                     for the given child node or {@code null}
+     * @param <X>          any subtype of {@link Resource}
+     * @return boolean
+     */
+    static <X extends Resource> boolean isReachable(X root,
+                                                    X test,
+                                                    Function<X, Stream<X>> listChildren,
+                                                    Function<X, Stream<X>> listParents) {
+        Set<X> forward = new HashSet<>();
+        Deque<X> forwardQueue = new ArrayDeque<>();
+        forward.add(root);
+        // the root is always expanded first
+        if (expand(root, listChildren, forward, forwardQueue, test::equals)) {
+            return true;
+        }
+        if (listParents == null) {
+            while (!forwardQueue.isEmpty()) {
+                if (expand(forwardQueue.removeFirst(), listChildren, forward, forwardQueue, test::equals)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Set<X> backward = new HashSet<>();
+        Deque<X> backwardQueue = new ArrayDeque<>();
+        backward.add(test);
+        backwardQueue.add(test);
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            boolean found;
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                found = expandLevel(forwardQueue, listChildren, forward, backward::contains);
+            } else {
+                found = expandLevel(backwardQueue, listParents, backward, forward::contains);
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <X extends Resource> boolean expandLevel(Deque<X> queue,
+                                                            Function<X, Stream<X>> listNext,
+                                                            Set<X> visited,
+                                                            Predicate<X> target) {
+        for (int i = queue.size(); i > 0; i--) {
+            if (expand(queue.removeFirst(), listNext, visited, queue, target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <X extends Resource> boolean expand(X node,
+                                                       Function<X, Stream<X>> listNext,
+                                                       Set<X> visited,
+                                                       Deque<X> queue,
+                                                       Predicate<X> target) {
+        try (Stream<X> next = listNext.apply(node)) {
+            Iterator<X> it = next.iterator();
+            while (it.hasNext()) {
+                X x = it.next();
+                if (target.test(x)) {
+                    return true;
+                }
+                if (visited.add(x)) {
+                    queue.add(x);
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -61,11 +203,42 @@ public final class HierarchySupport {
             Function<X, Stream<X>> listChildren,
             boolean direct,
             boolean useBuiltinHierarchySupport) {
+        return treeNodes(root, listChildren, null, null, direct, useBuiltinHierarchySupport);
+    }
+
+    /**
+     * Lists tree nodes for the given root using {@code listChildren} function, which provides child nodes.
+     * If the functions {@code listChildNodes} and {@code toChild} are specified,
+     * the builtin search of all tree nodes may be performed in parallel,
+     * see {@link OntModelControls#PARALLEL_HIERARCHY_FRONTIER_THRESHOLD}.
+     *
+     * @param root                       the root of tree
+     * @param listChildren               a {@link Function} that provides {@code Stream} of child nodes for the given parent node
+     * @param listChildNodes             a {@link Function} that provides {@code Stream} of candidate child {@link Node}s
+     *                                   for the given parent {@code Node};
+     *                                   it must read the graph only, since it is called from several threads;
+     *                                   can be {@code null}
+     * @param toChild                    a {@link Function} that converts a candidate {@link Node}
+     *                                   into a child node or returns {@code null} if the node is not a child;
+     *                                   it is called only from the calling thread; can be {@code null}
+     * @param direct                     if {@code true}, only return the direct (adjacent) values
+     * @param useBuiltinHierarchySupport if {@code true} collect a nodes' tree by traversing the graph,
+     *                                   this parameter is used when there is no reasoner attached to the graph
+     * @param <X>                        any subtype of {@link OntObject}
+     * @return a {@link Stream} of tree nodes
+     */
+    public static <X extends OntObject> Stream<X> treeNodes(
+            X root,
+            Function<X, Stream<X>> listChildren,
+            Function<Node, Stream<Node>> listChildNodes,
+            Function<Node, X> toChild,
+            boolean direct,
+            boolean useBuiltinHierarchySupport) {
         if (direct) {
             return directNodesAsStream(root, useBuiltinHierarchySupport, listChildren);
         }
         if (useBuiltinHierarchySupport) {
-            return allTreeNodes(root, listChildren);
+            return allTreeNodes(root, listChildren, listChildNodes, toChild);
         }
         return listChildren.apply(root).filter(x -> !root.equals(x));
     }
@@ -80,11 +253,21 @@ public final class HierarchySupport {
      * @return {@code Set} of {@link X}, {@code root} is not included
      */
     static <X extends Resource> Stream<X> allTreeNodes(X root, Function<X, Stream<X>> listChildren) {
+        return allTreeNodes(root, listChildren, null, null);
+    }
+
+    private static <X extends Resource> Stream<X> allTreeNodes(X root,
+                                                               Function<X, Stream<X>> listChildren,
+                                                               Function<Node, Stream<Node>> listChildNodes,
+                                                               Function<Node, X> toChild) {
         return Iterators.fromSet(() -> {
             Set<X> res = new HashSet<>();
-            Map<X, Set<X>> childrenNodesCache = new HashMap<>();
-            Function<X, Set<X>> getChildren = it -> getChildren(it, listChildren, childrenNodesCache);
-            collectIndirect(root, getChildren, res);
+            Function<X, Set<X>> getChildren = it -> listChildrenAsSet(it, listChildren);
+            if (listChildNodes == null || toChild == null) {
+                collectIndirect(root, getChildren, res);
+            } else {
+                collectIndirect(root, getChildren, listChildNodes, toChild, res);
+            }
             res.remove(root);
             return res;
         });
@@ -101,9 +284,8 @@ public final class HierarchySupport {
     public static <X extends Resource> Set<X> allTreeNodesSetInclusive(
             Supplier<Stream<X>> listRoots,
             Function<X, Stream<X>> listChildren) {
-        @SuppressWarnings("DuplicatedCode") Set<X> res = new HashSet<>();
-        Map<X, Set<X>> childrenNodesCache = new HashMap<>();
-        Function<X, Set<X>> getChildren = it -> getChildren(it, listChildren, childrenNodesCache);
+        Set<X> res = new HashSet<>();
+        Function<X, Set<X>> getChildren = it -> listChildrenAsSet(it, listChildren);
         try (Stream<X> roots = listRoots.get()) {
             roots.forEach(root -> collectIndirect(root, getChildren, res));
         }
@@ -112,6 +294,8 @@ public final class HierarchySupport {
 
     /**
      * For the given object recursively collects all children determined by the operation {@code listChildren}.
+     * This is a level-synchronous breadth-first search.
+     * Nodes that are already in {@code res} are not expanded.
      *
      * @param root        {@link X}
      * @param getChildren a {@code Function} that returns {@code Set} explicit children of an object of type {@link X}
@@ -121,15 +305,188 @@ public final class HierarchySupport {
     static <X extends Resource> void collectIndirect(X root,
                                                      Function<X, Set<X>> getChildren,
                                                      Set<X> res) {
-        Deque<X> queue = new ArrayDeque<>();
-        queue.add(root);
-        while (!queue.isEmpty()) {
-            X next = queue.removeFirst();
-            if (!res.add(next)) {
-                continue;
+        if (!res.add(root)) {
+            return;
+        }
+        List<X> frontier = List.of(root);
+        while (!frontier.isEmpty()) {
+            frontier = nextLevel(frontier, getChildren, res);
+        }
+    }
+
+    /**
+     * For the given object recursively collects all children determined by the operation {@code listChildren}.
+     * This is a level-synchronous breadth-first search;
+     * once a level becomes wider than the {@link OntModelControls#PARALLEL_HIERARCHY_FRONTIER_THRESHOLD threshold}
+     * configured for the model of the {@code root}, it and all the subsequent levels are expanded in parallel,
+     * see {@link #expandLevelInParallel(List, Function, Function, Set, Set)}.
+     * By default, the search is sequential.
+     * Nodes that are already in {@code res} are not expanded.
+     *
+     * @param root           {@link X}
+     * @param getChildren    a {@code Function} that returns {@code Set} explicit children of an object of type {@link X};
+     *                       the {@code root} is always expanded first, alone and with this function,
+     *                       so the function may behave differently for the {@code root}
+     * @param listChildNodes a {@code Function} that returns candidate child {@link Node}s for the given parent node,
+     *                       it must read the graph only, since it is called from several threads
+     * @param toChild        a {@code Function} that converts a candidate {@link Node} into a child or returns {@code null};
+     *                       it is called only from the calling thread
+     * @param res            {@code Set} to store result
+     * @param <X>            any subtype of {@link Resource}
+     */
+    static <X extends Resource> void collectIndirect(X root,
+                                                     Function<X, Set<X>> getChildren,
+                                                     Function<Node, Stream<Node>> listChildNodes,
+                                                     Function<Node, X> toChild,
+                                                     Set<X> res) {
+        if (!res.add(root)) {
+            return;
+        }
+        int threshold = parallelFrontierThreshold(root);
+        List<X> frontier = List.of(root);
+        while (!frontier.isEmpty() && frontier.size() < threshold) {
+            frontier = nextLevel(frontier, getChildren, res);
+        }
+        if (frontier.isEmpty()) {
+            return;
+        }
+        prepareConcurrentReads(root);
+        Set<Node> seen = new HashSet<>();
+        res.forEach(it -> seen.add(it.asNode()));
+        while (!frontier.isEmpty()) {
+            frontier = expandLevelInParallel(frontier, listChildNodes, toChild, seen, res);
+        }
+    }
+
+    private static <X extends Resource> List<X> nextLevel(List<X> frontier,
+                                                        Function<X, Set<X>> getChildren,
+                                                        Set<X> res) {
+        List<X> next = new ArrayList<>();
+        for (X parent : frontier) {
+            for (X child : getChildren.apply(parent)) {
+                if (res.add(child)) {
+                    next.add(child);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Expands the given frontier level:
+     * candidate child nodes are found in the graph by a parallel stream,
+     * then they are converted into {@link X} objects in the calling thread,
+     * since enhanced nodes and model caches are not thread-safe.
+     *
+     * @param frontier       {@code List} of {@link X}, all nodes are already in {@code res}
+     * @param listChildNodes a {@code Function} that returns candidate child {@link Node}s, must be thread-safe,
+     *                       i.e. the model graph must support concurrent reads
+     * @param toChild        a {@code Function} that converts a candidate {@link Node} into a child or returns {@code null}
+     * @param seen           {@code Set} of already processed {@link Node}s, is read concurrently, but modified only here
+     * @param res            {@code Set} to store result
+     * @param <X>            any subtype of {@link Resource}
+     * @return the next level
+     */
+    private static <X extends Resource> List<X> expandLevelInParallel(List<X> frontier,
+                                                                      Function<Node, Stream<Node>> listChildNodes,
+                                                                      Function<Node, X> toChild,
+                                                                      Set<Node> seen,
+                                                                      Set<X> res) {
+        Set<Node> candidates = frontier.parallelStream()
+                .flatMap(it -> {
+                    try (Stream<Node> children = listChildNodes.apply(it.asNode())) {
+                        return children.filter(x -> !seen.contains(x)).collect(Collectors.toList()).stream();
+                    }
+                })
+                .collect(Collectors.toSet());
+        List<X> next = new ArrayList<>();
+        for (Node node : candidates) {
+            // the conversion does not depend on the parent, so a rejected node is not checked again
+            seen.add(node);
+            X child = toChild.apply(node);
+            if (child != null && res.add(child)) {
+                next.add(child);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the frontier size starting from which the breadth-first search is performed in parallel.
+     *
+     * @param node {@link Resource} attached to a model
+     * @return int, at least {@code 2}; {@link Integer#MAX_VALUE} if the parallel search is disabled
+     * @see OntModelControls#PARALLEL_HIERARCHY_FRONTIER_THRESHOLD
+     */
+    private static int parallelFrontierThreshold(Resource node) {
+        Model m = node.getModel();
+        OntConfig config = m instanceof OntModel ? OntModels.config((OntModel) m) : null;
+        int res = config == null ? 0 : config.getInt(OntModelControls.PARALLEL_HIERARCHY_FRONTIER_THRESHOLD);
+        return res < 2 ? Integer.MAX_VALUE : res;
+    }
+
+    /**
+     * Calculates the lazy caches of the model graph,
+     * so that the graph is not modified by the concurrent reads.
+     *
+     * @param node {@link Resource} attached to a model
+     */
+    private static void prepareConcurrentReads(Resource node) {
+        Graph g = node.getModel().getGraph();
+        if (g instanceof UnionGraphImpl) {
+            ((UnionGraphImpl) g).warmUp();
+        }
+    }
+
+    /**
+     * Finds the roots of the hierarchy among the given nodes in one pass.
+     * A node outside of cycles is a root if it has no supers, except the ignored ones (e.g. {@code owl:Thing}).
+     * For a member of a cycle (a non-trivial strongly connected component) the per-node {@code isRoot} test is used,
+     * so the result is the same as testing each node with {@code isRoot};
+     * cycles are expected to be rare, so the test is called only for a few nodes.
+     *
+     * @param nodes     {@code Collection} of candidate nodes
+     * @param getSupers a {@code Function} that returns {@code Set} of explicit supers of the given node;
+     *                  it is called at most once for each node reachable from the candidates
+     * @param ignore    a {@code Predicate} to test supers that do not prevent a node from being a root
+     * @param isRoot    a {@code Predicate} to test a member of a cycle
+     * @param <X>       any subtype of {@link Resource}
+     * @return {@code Set} of root nodes, a subset of the given nodes
+     */
+    public static <X extends Resource> Set<X> roots(Collection<X> nodes,
+                                                    Function<X, Set<X>> getSupers,
+                                                    Predicate<X> ignore,
+                                                    Predicate<X> isRoot) {
+        Map<X, Integer> index = new HashMap<>();
+        List<X> all = new ArrayList<>();
+        List<int[]> adjacency = new ArrayList<>();
+        Function<X, Integer> id = it -> index.computeIfAbsent(it, x -> {
+            all.add(x);
+            return all.size() - 1;
+        });
+        nodes.forEach(id::apply);
+        // the list grows while iterating: supers that are not candidates are also expanded
+        for (int i = 0; i < all.size(); i++) {
+            X node = all.get(i);
+            adjacency.add(ignore.test(node) ? new int[0] : getSupers.apply(node).stream()
+                    .filter(it -> !node.equals(it) && !ignore.test(it))
+                    .mapToInt(id::apply)
+                    .toArray());
+        }
+        int[][] graph = adjacency.toArray(new int[0][]);
+        int[] components = StronglyConnectedComponents.components(graph);
+        int[] sizes = new int[StronglyConnectedComponents.count(components)];
+        for (int component : components) {
+            sizes[component]++;
+        }
+        Set<X> res = new HashSet<>();
+        for (X node : nodes) {
+            int i = index.get(node);
+            if (sizes[components[i]] > 1 ? isRoot.test(node) : graph[i].length == 0) {
+                res.add(node);
             }
-            queue.addAll(getChildren.apply(next));
         }
+        return res;
     }
 
     public static <X extends Resource> Stream<X> directNodesAsStream(X object,
@@ -151,13 +508,37 @@ public final class HierarchySupport {
 
     public static <X extends Resource> Set<X> directNodesAsSetWithBuiltinInf(X root,
                                                                              Function<X, Stream<X>> listChildren) {
-        Map<X, Node<X>> tree = collectTree(root, listChildren);
-        Node<X> theRoot = tree.get(root);
+        Map<X, TreeNode<X>> tree = collectTree(root, listChildren);
+        TreeNode<X> theRoot = tree.get(root);
         return theRoot.childrenWithEquivalents()
                 .flatMap(it -> collectDirect(theRoot, it))
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Answers {@code true} if the {@code test} node is in the {@link #directNodesAsSetStandard(Resource, Function)} set.
+     */
+    private static <X extends Resource> boolean isDirectNodeStandard(X root,
+                                                                     X test,
+                                                                     Function<X, Set<X>> getChildren) {
+        return getChildren.apply(root).contains(test)
+                && !equivalent(test, root, getChildren) && !hasAnotherPath(test, root, getChildren);
+    }
+
+    /**
+     * Answers {@code true} if the {@code test} node is in the {@link #directNodesAsSetWithBuiltinInf(Resource, Function)} set.
+     * Only the children of the {@code root}, that are the {@code test} node or its equivalents, are checked for other paths.
+     */
+    private static <X extends Resource> boolean isDirectNodeWithBuiltinInf(X root,
+                                                                           X test,
+                                                                           Function<X, Stream<X>> listChildren) {
+        Map<X, TreeNode<X>> tree = collectTree(root, listChildren);
+        TreeNode<X> theRoot = tree.get(root);
+        return theRoot.childrenWithEquivalents()
+                .filter(it -> it.node.equals(test) || it.equivalents.contains(test))
+                .anyMatch(it -> collectDirect(theRoot, it).anyMatch(test::equals));
+    }
+
     private static <X extends Resource> boolean hasAnotherPath(X given,
                                                                X root,
                                                                Function<X, Set<X>> getChildren) {
@@ -174,7 +555,7 @@ public final class HierarchySupport {
         return getChildren.apply(right).contains(left) && getChildren.apply(left).contains(right);
     }
 
-    private static <X extends Resource> Stream<X> collectDirect(Node<X> rootNode, Node<X> it) {
+    private static <X extends Resource> Stream<X> collectDirect(TreeNode<X> rootNode, TreeNode<X> it) {
         Set<X> equivalents = it.equivalents();
         if (!equivalents.contains(rootNode.node)) {
             Set<X> siblings = new HashSet<>(equivalents);
@@ -190,9 +571,9 @@ public final class HierarchySupport {
         }
     }
 
-    private static <X extends Resource> Map<X, Node<X>> collectTree(X root, Function<X, Stream<X>> listChildren) {
+    private static <X extends Resource> Map<X, TreeNode<X>> collectTree(X root, Function<X, Stream<X>> listChildren) {
         Map<X, Set<X>> childrenNodesCache = new HashMap<>();
-        Map<X, Node<X>> res = new HashMap<>();
+        Map<X, TreeNode<X>> res = new HashMap<>();
         Set<X> visited = new HashSet<>();
         Deque<X> queue = new ArrayDeque<>();
         queue.add(root);
@@ -202,16 +583,54 @@ public final class HierarchySupport {
                 continue;
             }
             Set<X> nextChildren = getChildren(next, listChildren, childrenNodesCache);
-            Node<X> nextNode = res.computeIfAbsent(next, Node::new);
+            TreeNode<X> nextNode = res.computeIfAbsent(next, TreeNode::new);
             nextChildren.forEach(child -> {
-                Node<X> childNode = res.computeIfAbsent(child, Node::new);
+                TreeNode<X> childNode = res.computeIfAbsent(child, TreeNode::new);
                 nextNode.children.add(childNode);
                 queue.add(child);
             });
         }
+        assignEquivalents(res.values());
         return res;
     }
 
+    /**
+     * Computes strongly connected components of the tree (once per tree) and assigns equivalents to each node.
+     * All nodes of a non-trivial component (or a node with a self-loop) are equivalent to each other.
+     *
+     * @param nodes {@code Collection} of all {@link TreeNode}s of the tree
+     * @param <X>   any subtype of {@link Resource}
+     */
+    private static <X extends Resource> void assignEquivalents(Collection<TreeNode<X>> nodes) {
+        List<TreeNode<X>> list = new ArrayList<>(nodes);
+        Map<TreeNode<X>, Integer> ids = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            ids.put(list.get(i), i);
+        }
+        int[][] graph = new int[list.size()][];
+        for (int i = 0; i < graph.length; i++) {
+            graph[i] = list.get(i).children.stream().mapToInt(ids::get).toArray();
+        }
+        int[] components = StronglyConnectedComponents.components(graph);
+        Map<Integer, Set<X>> members = new HashMap<>();
+        for (int i = 0; i < components.length; i++) {
+            members.computeIfAbsent(components[i], it -> new HashSet<>()).add(list.get(i).node);
+        }
+        for (int i = 0; i < components.length; i++) {
+            TreeNode<X> node = list.get(i);
+            Set<X> component = members.get(components[i]);
+            if (component.size() > 1 || node.children.contains(node)) {
+                node.equivalents = component;
+            }
+        }
+    }
+
+    private static <X extends Resource> Set<X> listChildrenAsSet(X root, Function<X, Stream<X>> listChildren) {
+        try (Stream<X> children = listChildren.apply(root)) {
+            return children.collect(Collectors.toSet());
+        }
+    }
+
     private static <X extends Resource> Set<X> getChildren(
             X root,
             Function<X, Stream<X>> listChildren,
@@ -229,32 +648,33 @@ public final class HierarchySupport {
      *
      * @param <X> resource
      */
-    private static class Node<X extends Resource> {
+    private static class TreeNode<X extends Resource> {
         final X node;
-        final Set<Node<X>> children = new HashSet<>();
+        final Set<TreeNode<X>> children = new HashSet<>();
+        // the strongly connected component of this node (shared between its members), see #assignEquivalents
+        Set<X> equivalents = Set.of();
 
-        Node(X node) {
+        TreeNode(X node) {
             this.node = node;
         }
 
-        Stream<Node<X>> childrenWithEquivalents() {
-            Set<X> equivalents = this.equivalents();
+        Stream<TreeNode<X>> childrenWithEquivalents() {
             return children.stream().flatMap(ch -> {
                 if (equivalents.contains(ch.node)) {
-                    return ch.children.stream().filter(ech -> !ech.equals(Node.this));
+                    return ch.children.stream().filter(ech -> !ech.equals(TreeNode.this));
                 } else {
                     return Stream.of(ch);
                 }
             });
         }
 
-        boolean hasMoreThanOnePathTo(Node<X> given, Set<X> exclude) {
-            Deque<Node<X>> queue = new ArrayDeque<>();
+        boolean hasMoreThanOnePathTo(TreeNode<X> given, Set<X> exclude) {
+            Deque<TreeNode<X>> queue = new ArrayDeque<>();
             Set<X> visited = new HashSet<>();
             int res = 0;
-            Iterator<Node<X>> firstLevelChildren = given.childrenWithEquivalents().iterator();
+            Iterator<TreeNode<X>> firstLevelChildren = given.childrenWithEquivalents().iterator();
             while (firstLevelChildren.hasNext()) {
-                Node<X> child = firstLevelChildren.next();
+                TreeNode<X> child = firstLevelChildren.next();
                 if (exclude.contains(child.node)) {
                     continue;
                 }
@@ -265,7 +685,7 @@ public final class HierarchySupport {
                 }
             }
             while (!queue.isEmpty()) {
-                Node<X> next = queue.removeFirst();
+                TreeNode<X> next = queue.removeFirst();
                 if (exclude.contains(next.node)) {
                     continue;
                 }
@@ -286,36 +706,7 @@ public final class HierarchySupport {
         }
 
         Set<X> equivalents() {
-            Deque<Node<X>> queue = new ArrayDeque<>();
-            queue.add(this);
-            Set<X> visited = new HashSet<>();
-            Map<X, Set<X>> paths = new HashMap<>();
-            Set<X> res = new HashSet<>();
-            while (!queue.isEmpty()) {
-                Node<X> next = queue.removeFirst();
-                Set<X> nextPaths = paths.computeIfAbsent(next.node, it -> new HashSet<>());
-                if (!nextPaths.isEmpty() && next.node.equals(this.node)) {
-                    // cycle, all nodes in cycle are equivalent
-                    res.addAll(nextPaths);
-                    nextPaths.forEach(p -> {
-                        Set<X> other = paths.get(p);
-                        if (other != null) {
-                            res.addAll(other);
-                        }
-                    });
-                    continue;
-                }
-                if (!visited.add(next.node)) {
-                    continue;
-                }
-                next.children.forEach(child -> {
-                    Set<X> childPaths = paths.computeIfAbsent(child.node, it -> new HashSet<>());
-                    childPaths.add(next.node);
-                    childPaths.addAll(nextPaths);
-                    queue.add(child);
-                });
-            }
-            return res;
+            return new HashSet<>(equivalents);
         }
 
         @Override
@@ -326,8 +717,8 @@ public final class HierarchySupport {
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
-            if (!(o instanceof Node)) return false;
-            return node.equals(((Node<?>) o).node);
+            if (!(o instanceof TreeNode)) return false;
+            return node.equals(((TreeNode<?>) o).node);
         }
 
         @Override
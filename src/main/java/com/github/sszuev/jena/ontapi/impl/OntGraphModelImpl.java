@@ -16,6 +16,7 @@ import com.github.sszuev.jena.ontapi.impl.objects.OntFacetRestrictionImpl;
 import com.github.sszuev.jena.ontapi.impl.objects.OntIndividualImpl;
 import com.github.sszuev.jena.ontapi.impl.objects.OntListImpl;
 import com.github.sszuev.jena.ontapi.impl.objects.OntObjectImpl;
+import com.github.sszuev.jena.ontapi.impl.objects.OntPropertyImpl;
 import com.github.sszuev.jena.ontapi.impl.objects.OntSWRLImpl;
 import com.github.sszuev.jena.ontapi.impl.objects.OntStatementImpl;
 import com.github.sszuev.jena.ontapi.model.OntAnnotationProperty;
@@ -25,12 +26,15 @@ import com.github.sszuev.jena.ontapi.model.OntDataRange;
 import com.github.sszuev.jena.ontapi.model.OntDisjoint;
 import com.github.sszuev.jena.ontapi.model.OntEntity;
 import com.github.sszuev.jena.ontapi.model.OntFacetRestriction;
+import com.github.sszuev.jena.ontapi.model.OntHierarchy;
+import com.github.sszuev.jena.ontapi.model.OntHierarchySession;
 import com.github.sszuev.jena.ontapi.model.OntID;
 import com.github.sszuev.jena.ontapi.model.OntIndividual;
 import com.github.sszuev.jena.ontapi.model.OntList;
 import com.github.sszuev.jena.ontapi.model.OntModel;
 import com.github.sszuev.jena.ontapi.model.OntObject;
 import com.github.sszuev.jena.ontapi.model.OntObjectProperty;
+import com.github.sszuev.jena.ontapi.model.OntProperty;
 import com.github.sszuev.jena.ontapi.model.OntSWRL;
 import com.github.sszuev.jena.ontapi.model.OntStatement;
 import com.github.sszuev.jena.ontapi.utils.Graphs;
@@ -89,6 +93,7 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -112,6 +117,10 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
     // a cache with values of arbitrary nature, which can be used for various purposes,
     // e.g., as a storage of reserved nodes when construct OntObjects
     public final Map<String, Object> propertyStore = new HashMap<>();
+    // model-level indexes, created on demand if enabled
+    private volatile OntModelIndexes indexes;
+    // a memo of class closures, which is used while some hierarchy session is open
+    private volatile HierarchySession hierarchySession;
 
     public OntGraphModelImpl(UnionGraph graph, OntPersonality personality) {
         this((Graph) graph, personality);
@@ -188,10 +197,13 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
     public static <M extends OntModel & OntEnhGraph> ExtendedIterator<OntIndividual> listIndividuals(M model,
                                                                                                      Set<String> reserved,
                                                                                                      ExtendedIterator<Triple> assertions) {
-        Set<Triple> seen = new HashSet<>();
         boolean useSimplifiedClassChecking = model.getOntPersonality()
                 .getConfig().getBoolean(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS);
         boolean isRDFS = OntPersonalities.isRDFS(model.getOntPersonality());
+        if (model.getOntPersonality().getConfig().getBoolean(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS)) {
+            return listIndividualsGroupedBySubject(model, classAssertionTester(model, reserved), assertions);
+        }
+        Set<Triple> seen = new HashSet<>();
 
         return assertions
                 .mapWith(t -> {
@@ -233,6 +245,77 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
                 .mapWith(s -> s.getSubject(OntIndividual.class));
     }
 
+    /**
+     * Filters {@code OntIndividual}s from the specified {@code ExtendedIterator} without keeping any state:
+     * an individual is returned only for the class assertion,
+     * whose object is the first class in the list of the subject's types (see {@link #isFirstClassAssertion(Graph, Triple, Predicate)}).
+     *
+     * @param model      {@link M}, not {@code null}
+     * @param isClass    a {@code Predicate} to test whether the node is a class that can be a type of individual
+     * @param assertions {@link ExtendedIterator} of {@link Triple}s
+     *                   with the {@link RDF#type rdf:type} as predicate, not {@code null}
+     * @param <M>        a subtype of {@link OntModel} and {@link OntEnhGraph}
+     * @return {@link ExtendedIterator} of {@link OntIndividual}s that are attached to the {@code model}
+     */
+    private static <M extends OntModel & OntEnhGraph> ExtendedIterator<OntIndividual> listIndividualsGroupedBySubject(
+            M model,
+            Predicate<Node> isClass,
+            ExtendedIterator<Triple> assertions) {
+        Graph graph = model.getGraph();
+        return assertions
+                .filterKeep(t -> isClass.test(t.getObject()) && isFirstClassAssertion(graph, t, isClass))
+                .mapWith(t -> model.asStatement(t).getSubject().getAs(OntIndividual.class))
+                .filterKeep(Objects::nonNull);
+    }
+
+    /**
+     * Creates a {@code Predicate} to test whether the object of a class assertion is a class
+     * that can be a type of individual.
+     *
+     * @param model    {@link M}, not {@code null}
+     * @param reserved a {@code Set} of forbidden URIs,
+     *                 that cannot be treated as {@link OntClass Ontology Class}es, not {@code null}
+     * @param <M>      a subtype of {@link OntModel} and {@link OntEnhGraph}
+     * @return {@code Predicate} of {@link Node}s
+     */
+    private static <M extends OntModel & OntEnhGraph> Predicate<Node> classAssertionTester(M model,
+                                                                                        Set<String> reserved) {
+        boolean useSimplifiedClassChecking = model.getOntPersonality()
+                .getConfig().getBoolean(OntModelControls.USE_SIMPLIFIED_TYPE_CHECKING_WHILE_LIST_INDIVIDUALS);
+        boolean isRDFS = OntPersonalities.isRDFS(model.getOntPersonality());
+        return it -> !(it.isURI() && reserved.contains(it.getURI())) &&
+                testIsClass(model, it, useSimplifiedClassChecking, isRDFS);
+    }
+
+    /**
+     * Answers {@code true} if the object of the given class assertion is the first class
+     * among the types of its subject, in the order of the {@code (s, rdf:type, ?)} lookup.
+     * Usually the lookup stops at the first triple.
+     *
+     * @param graph     {@link Graph}
+     * @param assertion {@link Triple} a class assertion, whose object is a class
+     * @param isClass   a {@code Predicate} to test types
+     * @return boolean
+     */
+    private static boolean isFirstClassAssertion(Graph graph, Triple assertion, Predicate<Node> isClass) {
+        ExtendedIterator<Triple> types = graph.find(assertion.getSubject(), RDF.Nodes.type, Node.ANY);
+        try {
+            while (types.hasNext()) {
+                Node type = types.next().getObject();
+                if (type.equals(assertion.getObject())) {
+                    return true;
+                }
+                if (isClass.test(type)) {
+                    return false;
+                }
+            }
+            // the assertion is not found, e.g., it has been deleted concurrently
+            return true;
+        } finally {
+            types.close();
+        }
+    }
+
     private static <M extends OntModel & OntEnhGraph> boolean testIsClass(
             M model,
             Node candidate,
@@ -295,6 +378,66 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
         return config != null && config.getBoolean(setting);
     }
 
+    /**
+     * Returns the model-level indexes
+     * if they are enabled by the {@link OntModelControls#USE_BUILTIN_INDEXES} setting.
+     *
+     * @param m {@link OntModel}
+     * @return {@link OntModelIndexes} or {@code null} if indexes are disabled or not supported
+     */
+    public static OntModelIndexes indexes(OntModel m) {
+        return m instanceof OntGraphModelImpl ? ((OntGraphModelImpl) m).getIndexes() : null;
+    }
+
+    /**
+     * Returns the model-level indexes, creating them if needed.
+     * Indexes are not used if the model has a reasoner attached.
+     *
+     * @return {@link OntModelIndexes} or {@code null} if indexes are disabled
+     */
+    public OntModelIndexes getIndexes() {
+        OntModelIndexes res = indexes;
+        if (res != null) {
+            return res;
+        }
+        if (getInfGraph() != null || !configValue(this, OntModelControls.USE_BUILTIN_INDEXES)) {
+            return null;
+        }
+        synchronized (this) {
+            if (indexes == null) {
+                indexes = new OntModelIndexes(this);
+            }
+            return indexes;
+        }
+    }
+
+    /**
+     * Returns the memo of class closures if there is an open hierarchy session.
+     *
+     * @param m {@link OntModel}
+     * @return {@link HierarchySession} or {@code null} if no session is open
+     * @see OntModel#hierarchySession()
+     */
+    public static HierarchySession hierarchySession(OntModel m) {
+        if (!(m instanceof OntGraphModelImpl)) {
+            return null;
+        }
+        HierarchySession res = ((OntGraphModelImpl) m).hierarchySession;
+        return res != null && res.isOpen() ? res : null;
+    }
+
+    @Override
+    public OntHierarchySession hierarchySession() {
+        HierarchySession res;
+        synchronized (this) {
+            if (hierarchySession == null) {
+                hierarchySession = new HierarchySession(this);
+            }
+            res = hierarchySession;
+        }
+        return res.open();
+    }
+
     @Override
     public OntPersonality getOntPersonality() {
         return (OntPersonality) super.getPersonality();
@@ -585,6 +728,25 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
         return Iterators.asStream(listOntObjects(type), Graphs.getSpliteratorCharacteristics(getGraph()));
     }
 
+    /**
+     * Lists all {@link OntObject Ontology Object}s of the given type in the form of a parallel {@code Stream},
+     * see {@link com.github.sszuev.jena.ontapi.common.EnhNodeFactory#parallelFind(EnhGraph)}.
+     *
+     * @param type {@link Class} the type of {@link OntObject}, not null
+     * @param <O>  subtype of {@link OntObject}
+     * @return parallel {@code Stream} of {@link OntObject}s
+     */
+    @Override
+    public <O extends OntObject> Stream<O> parallelOntObjects(Class<? extends O> type) {
+        OntPersonality p = getOntPersonality();
+        if (!p.supports(type)) {
+            return Stream.empty();
+        }
+        Stream<?> res = p.getObjectFactory(type).parallelFind(this);
+        //noinspection unchecked
+        return (Stream<O>) res;
+    }
+
     /**
      * Lists all {@link OntObject Ontology Object}s and caches them inside this model.
      *
@@ -649,6 +811,37 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
         return Iterators.asStream(listIndividuals(), Graphs.getSpliteratorCharacteristics(getGraph()));
     }
 
+    /**
+     * Lists all class-asserted individuals in the form of a parallel {@code Stream}.
+     * Class assertions are found by {@link Graphs#parallelFind(Graph, Triple)} in two passes:
+     * the first pass collects the distinct asserted types, which are then tested in the calling thread,
+     * the second pass selects the assertions that are first for their subjects
+     * (see {@link #isFirstClassAssertion(Graph, Triple, Predicate)}), so no shared mutable state is required.
+     * The individuals are wrapped in the calling thread, since the model caches are not thread-safe.
+     * For an inference model, the sequential {@link #listIndividuals()} is used as a source.
+     *
+     * @return parallel {@code Stream} of {@link OntIndividual}s
+     */
+    @Override
+    public Stream<OntIndividual> parallelIndividuals() {
+        Graph graph = getGraph();
+        if (graph instanceof InfGraph) {
+            return individuals().collect(Collectors.toList()).parallelStream();
+        }
+        Triple pattern = Triple.createMatch(Node.ANY, RDF.Nodes.type, Node.ANY);
+        Predicate<Node> isClass = classAssertionTester(this, getOntPersonality().forbidden(OntClass.Named.class));
+        Set<Node> types = Graphs.parallelFind(graph, pattern).map(Triple::getObject).collect(Collectors.toSet());
+        Set<Node> classes = types.stream().filter(isClass).collect(Collectors.toSet());
+        List<Triple> assertions = Graphs.parallelFind(graph, pattern)
+                .filter(t -> classes.contains(t.getObject()) && isFirstClassAssertion(graph, t, classes::contains))
+                .collect(Collectors.toList());
+        return assertions.stream()
+                .map(t -> asStatement(t).getSubject().getAs(OntIndividual.class))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+                .parallelStream();
+    }
+
     /**
      * Returns an {@code ExtendedIterator} over all individuals
      * that participate in class assertion statement {@code a rdf:type C}.
@@ -688,11 +881,69 @@ public class OntGraphModelImpl extends ModelCom implements OntModel, OntEnhGraph
             }
         }
         Set<Node> reserved = getOntPersonality().getReserved().getAllResources();
+        if (getInfGraph() == null && configValue(this, OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)) {
+            Set<OntClass> roots = hierarchyRootsSet(reserved);
+            return listOntObjects(OntClass.class).filterKeep(roots::contains);
+        }
         return listOntObjects(OntClass.class)
                 .filterDrop(c -> reserved.contains(c.asNode()))
                 .filterKeep(OntClass::isHierarchyRoot);
     }
 
+    /**
+     * Computes the class hierarchy roots in one pass over the explicit class hierarchy,
+     * which is equivalent to testing {@link OntClass#isHierarchyRoot()} for each class
+     * when builtin hierarchy support is enabled
+     * (the test is still performed for members of cycles).
+     * If the model has indexes, the result is cached until the class hierarchy is changed.
+     *
+     * @param reserved {@code Set} of reserved {@link Node}s, that cannot be roots
+     * @return {@code Set} of {@link OntClass}es
+     */
+    protected Set<OntClass> hierarchyRootsSet(Set<Node> reserved) {
+        Supplier<Stream<OntClass>> listCandidates = () -> ontObjects(OntClass.class)
+                .filter(c -> !reserved.contains(c.asNode()));
+        Predicate<OntClass> ignore = c -> OWL.Thing.equals(c) || RDFS.Resource.equals(c);
+        OntModelIndexes indexes = getIndexes();
+        if (indexes != null) {
+            return indexes.classHierarchy().roots(listCandidates, ignore, OntClass::isHierarchyRoot);
+        }
+        List<OntClass> candidates;
+        try (Stream<OntClass> classes = listCandidates.get()) {
+            candidates = classes.collect(Collectors.toList());
+        }
+        return HierarchySupport.roots(candidates,
+                c -> c.objects(RDFS.subClassOf, OntClass.class)
+                        .map(OntClass::asSuperClass)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()),
+                ignore,
+                OntClass::isHierarchyRoot);
+    }
+
+    @Override
+    public OntHierarchy<OntClass> classHierarchy() {
+        Map<OntClass, Set<OntClass>> supers = new HashMap<>();
+        listOntObjects(OntClass.class).forEachRemaining(it -> supers.computeIfAbsent(it, x -> new HashSet<>()));
+        Map<Node, Optional<OntClass>> classes = new HashMap<>();
+        Function<Node, OntClass> asClass = node -> classes.computeIfAbsent(node,
+                it -> Optional.ofNullable(findNodeAs(it, OntClass.class))).orElse(null);
+        getGraph().find(Node.ANY, RDFS.subClassOf.asNode(), Node.ANY).forEachRemaining(t -> {
+            OntClass sub = asClass.apply(t.getSubject());
+            OntClass sup = asClass.apply(t.getObject());
+            if (sub == null || sup == null || sub.asSubClass() == null || sup.asSuperClass() == null) {
+                return;
+            }
+            supers.computeIfAbsent(sub, x -> new HashSet<>()).add(sup);
+        });
+        return OntHierarchyImpl.build(supers);
+    }
+
+    @Override
+    public Map<OntProperty, Set<OntClass>> declaringClasses(boolean direct) {
+        return OntPropertyImpl.declaringClasses(this, direct);
+    }
+
     @Override
     public <E extends OntEntity> E getOntEntity(Class<E> type, String uri) {
         return findNodeAs(NodeFactory.createURI(OntJenaException.notNull(uri, "Null uri.")), type);
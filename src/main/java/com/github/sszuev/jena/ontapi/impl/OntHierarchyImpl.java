@@ -0,0 +1,258 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.model.OntHierarchy;
+import com.github.sszuev.jena.ontapi.model.OntObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A compact implementation of {@link OntHierarchy}, which is computed in one pass.
+ * <p>
+ * The explicit hierarchy graph is condensed into a DAG of strongly connected components
+ * (see {@link StronglyConnectedComponents}), and then the transitive reduction of the DAG is computed.
+ * Components are processed in topological order;
+ * for a component with several successors, a single depth-first search starting from all successors
+ * finds the successors that are reachable from the others (they are redundant).
+ * Since component ids are topologically ordered, the search is pruned by the minimal successor id.
+ * The structure holds only primitive arrays and the node index.
+ *
+ * @param <X> subtype of {@link OntObject}
+ */
+public final class OntHierarchyImpl<X extends OntObject> implements OntHierarchy<X> {
+    private final List<X> nodes;
+    private final Map<X, Integer> index;
+    // node -> component
+    private final int[] components;
+    // component -> nodes
+    private final int[][] members;
+    // component -> direct super components
+    private final int[][] supers;
+    // component -> direct sub components
+    private final int[][] subs;
+
+    private OntHierarchyImpl(List<X> nodes, Map<X, Integer> index, int[] components, int[][] members, int[][] supers) {
+        this.nodes = nodes;
+        this.index = index;
+        this.components = components;
+        this.members = members;
+        this.supers = supers;
+        this.subs = reverse(supers);
+    }
+
+    /**
+     * Builds the hierarchy from explicit relations.
+     *
+     * @param supers {@code Map} with all nodes as keys and their explicit supers as values
+     *               (the values may contain nodes that are not keys)
+     * @param <X>    subtype of {@link OntObject}
+     * @return {@link OntHierarchyImpl}
+     */
+    public static <X extends OntObject> OntHierarchyImpl<X> build(Map<X, ? extends Collection<X>> supers) {
+        Map<X, Integer> index = new HashMap<>();
+        List<X> nodes = new ArrayList<>();
+        supers.keySet().forEach(it -> id(it, index, nodes));
+        List<int[]> children = new ArrayList<>();
+        supers.forEach((node, values) -> children.add(
+                values.stream().filter(it -> !node.equals(it)).mapToInt(it -> id(it, index, nodes)).toArray()
+        ));
+        while (children.size() < nodes.size()) {
+            // nodes that are present only as supers
+            children.add(new int[0]);
+        }
+        int[][] adjacency = children.toArray(new int[0][]);
+        int[] components = StronglyConnectedComponents.components(adjacency);
+        int count = StronglyConnectedComponents.count(components);
+        int[][] members = groupMembers(components, count);
+        int[][] condensed = condense(adjacency, components, count);
+        return new OntHierarchyImpl<>(
+                Collections.unmodifiableList(nodes),
+                Collections.unmodifiableMap(index),
+                components,
+                members,
+                reduce(condensed)
+        );
+    }
+
+    private static <X> int id(X node, Map<X, Integer> index, List<X> nodes) {
+        return index.computeIfAbsent(node, it -> {
+            nodes.add(it);
+            return nodes.size() - 1;
+        });
+    }
+
+    private static int[][] groupMembers(int[] components, int count) {
+        int[] sizes = new int[count];
+        for (int c : components) {
+            sizes[c]++;
+        }
+        int[][] res = new int[count][];
+        for (int i = 0; i < count; i++) {
+            res[i] = new int[sizes[i]];
+        }
+        int[] positions = new int[count];
+        for (int i = 0; i < components.length; i++) {
+            int c = components[i];
+            res[c][positions[c]++] = i;
+        }
+        return res;
+    }
+
+    private static int[][] condense(int[][] adjacency, int[] components, int count) {
+        BitSet[] res = new BitSet[count];
+        for (int i = 0; i < adjacency.length; i++) {
+            int from = components[i];
+            for (int child : adjacency[i]) {
+                int to = components[child];
+                if (from == to) {
+                    continue;
+                }
+                if (res[from] == null) {
+                    res[from] = new BitSet();
+                }
+                res[from].set(to);
+            }
+        }
+        return Arrays.stream(res).map(it -> it == null ? new int[0] : it.stream().toArray()).toArray(int[][]::new);
+    }
+
+    /**
+     * Computes the transitive reduction of the DAG, whose edges always go from a greater id to a lesser id.
+     *
+     * @param dag adjacency array
+     * @return adjacency array
+     */
+    private static int[][] reduce(int[][] dag) {
+        int n = dag.length;
+        int[][] res = new int[n][];
+        // stamps to avoid clearing the visited marks for each component
+        int[] visited = new int[n];
+        int[] reached = new int[n];
+        int[] stack = new int[n];
+        int stamp = 0;
+        for (int c = 0; c < n; c++) {
+            int[] successors = dag[c];
+            if (successors.length < 2) {
+                res[c] = successors;
+                continue;
+            }
+            stamp++;
+            // successors are sorted (BitSet order), so the first one is the minimal
+            int min = successors[0];
+            int top = 0;
+            for (int s : successors) {
+                stack[top++] = s;
+                visited[s] = stamp;
+            }
+            while (top > 0) {
+                int next = stack[--top];
+                for (int child : dag[next]) {
+                    if (child < min) {
+                        // no successor can be reached from a component with lesser id
+                        continue;
+                    }
+                    reached[child] = stamp;
+                    if (visited[child] != stamp) {
+                        visited[child] = stamp;
+                        stack[top++] = child;
+                    }
+                }
+            }
+            int finalStamp = stamp;
+            res[c] = IntStream.of(successors).filter(it -> reached[it] != finalStamp).toArray();
+        }
+        return res;
+    }
+
+    private static int[][] reverse(int[][] dag) {
+        int n = dag.length;
+        int[] sizes = new int[n];
+        for (int[] successors : dag) {
+            for (int s : successors) {
+                sizes[s]++;
+            }
+        }
+        int[][] res = new int[n][];
+        for (int i = 0; i < n; i++) {
+            res[i] = new int[sizes[i]];
+        }
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int s : dag[i]) {
+                res[s][positions[s]++] = i;
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public Set<X> nodes() {
+        return index.keySet();
+    }
+
+    @Override
+    public Set<X> roots() {
+        Set<X> res = new HashSet<>();
+        for (int c = 0; c < supers.length; c++) {
+            if (supers[c].length == 0) {
+                addMembers(c, -1, res);
+            }
+        }
+        return Collections.unmodifiableSet(res);
+    }
+
+    @Override
+    public Set<X> directSubs(X node) {
+        return related(node, subs);
+    }
+
+    @Override
+    public Set<X> directSupers(X node) {
+        return related(node, supers);
+    }
+
+    @Override
+    public Set<X> equivalents(X node) {
+        Integer id = index.get(node);
+        if (id == null) {
+            return Set.of();
+        }
+        Set<X> res = new HashSet<>();
+        addMembers(components[id], id, res);
+        return Collections.unmodifiableSet(res);
+    }
+
+    private Set<X> related(X node, int[][] relation) {
+        Integer id = index.get(node);
+        if (id == null) {
+            return Set.of();
+        }
+        Set<X> res = new HashSet<>();
+        for (int c : relation[components[id]]) {
+            addMembers(c, -1, res);
+        }
+        return Collections.unmodifiableSet(res);
+    }
+
+    private void addMembers(int component, int exclude, Set<X> res) {
+        for (int member : members[component]) {
+            if (member != exclude) {
+                res.add(nodes.get(member));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OntHierarchy{nodes=%d, components=%d}", nodes.size(), members.length);
+    }
+}
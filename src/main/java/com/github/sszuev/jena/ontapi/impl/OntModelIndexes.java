@@ -0,0 +1,419 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.OntModelControls;
+import com.github.sszuev.jena.ontapi.UnionGraph;
+import com.github.sszuev.jena.ontapi.impl.objects.OntClassImpl;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntProperty;
+import com.github.sszuev.jena.ontapi.utils.Graphs;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.FrontsNode;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.RDFS;
+
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A container of model-level indexes, which are built on demand and then maintained incrementally.
+ * Used if {@link com.github.sszuev.jena.ontapi.OntModelControls#USE_BUILTIN_INDEXES} is enabled.
+ * <p>
+ * Since data graphs can be modified directly, bypassing the model,
+ * a listener is registered in the event managers of all data graphs and all {@link UnionGraph}s of the hierarchy.
+ * The listener holds the container weakly and unregisters itself once the container is collected.
+ */
+public class OntModelIndexes {
+    /**
+     * Predicates that build class expressions, data ranges, anonymous inverse properties, lists and annotated axioms.
+     */
+    protected static final Set<Node> STRUCTURAL_PREDICATES = Stream.of(
+            RDF.first, RDF.rest,
+            OWL.onProperty, OWL.onProperties, OWL.onClass, OWL.onDataRange,
+            OWL.someValuesFrom, OWL.allValuesFrom, OWL.hasValue, OWL.hasSelf,
+            OWL.cardinality, OWL.minCardinality, OWL.maxCardinality,
+            OWL.qualifiedCardinality, OWL.minQualifiedCardinality, OWL.maxQualifiedCardinality,
+            OWL.unionOf, OWL.intersectionOf, OWL.complementOf, OWL.oneOf,
+            OWL.onDatatype, OWL.withRestrictions, OWL.datatypeComplementOf,
+            OWL.inverseOf,
+            OWL.annotatedSource, OWL.annotatedProperty, OWL.annotatedTarget
+    ).map(FrontsNode::asNode).collect(Collectors.toUnmodifiableSet());
+
+    protected final OntGraphModelImpl model;
+    protected final Listener listener = new Listener(this);
+    /**
+     * The graphs in whose event managers the {@link #listener} is registered.
+     */
+    protected final Set<Graph> listenedGraphs = new HashSet<>();
+    protected volatile HierarchyIndex<OntClass> classHierarchy;
+    protected final Map<Class<? extends OntProperty>, HierarchyIndex<?>> propertyHierarchies = new ConcurrentHashMap<>();
+    protected volatile DomainIndex domainIndex;
+    protected volatile DisjointIndex disjointIndex;
+
+    public OntModelIndexes(OntGraphModelImpl model) {
+        this.model = Objects.requireNonNull(model);
+        updateListeners();
+    }
+
+    /**
+     * Returns the {@code rdfs:subClassOf} hierarchy index.
+     *
+     * @return {@link HierarchyIndex} of {@link OntClass}es
+     */
+    public HierarchyIndex<OntClass> classHierarchy() {
+        HierarchyIndex<OntClass> res = classHierarchy;
+        if (res != null) {
+            return res;
+        }
+        synchronized (this) {
+            if (classHierarchy == null) {
+                classHierarchy = new HierarchyIndex<>(model.getGraph(), RDFS.subClassOf.asNode(),
+                        node -> asClass(node, OntClass::asSubClass),
+                        node -> asClass(node, OntClass::asSuperClass));
+            }
+            return classHierarchy;
+        }
+    }
+
+    /**
+     * Returns the {@code rdfs:subPropertyOf} hierarchy index for the given property type,
+     * which also takes into account {@code owl:equivalentProperty} and {@code owl:inverseOf}.
+     *
+     * @param type {@code Class}-type of {@link OntProperty}
+     * @param <X>  subtype of {@link OntProperty}
+     * @return {@link HierarchyIndex} of {@link X}s
+     * @see PropertyHierarchyIndex
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends OntProperty> HierarchyIndex<X> propertyHierarchy(Class<X> type) {
+        return (HierarchyIndex<X>) propertyHierarchies.computeIfAbsent(type, it -> new PropertyHierarchyIndex<>(
+                model.getGraph(),
+                node -> model.findNodeAs(node, type),
+                OntGraphModelImpl.configValue(model, OntModelControls.USE_OWL_PROPERTY_EQUIVALENT_FEATURE),
+                OntGraphModelImpl.configValue(model, OntModelControls.USE_OWL_PROPERTY_INVERSE_OF_FEATURE)
+        ));
+    }
+
+    /**
+     * Returns the inverse {@code rdfs:domain} index.
+     *
+     * @return {@link DomainIndex}
+     */
+    public DomainIndex domainIndex() {
+        DomainIndex res = domainIndex;
+        if (res != null) {
+            return res;
+        }
+        synchronized (this) {
+            if (domainIndex == null) {
+                Set<Node> reserved = model.getOntPersonality().getReserved().getAllResources();
+                domainIndex = new DomainIndex(() -> OntClassImpl.declarableProperties(model), reserved::contains);
+            }
+            return domainIndex;
+        }
+    }
+
+    /**
+     * Returns the class disjointness index.
+     *
+     * @return {@link DisjointIndex}
+     */
+    public DisjointIndex disjointIndex() {
+        DisjointIndex res = disjointIndex;
+        if (res != null) {
+            return res;
+        }
+        synchronized (this) {
+            if (disjointIndex == null) {
+                Set<Node> reserved = model.getOntPersonality().getReserved().getAllResources();
+                disjointIndex = new DisjointIndex(
+                        () -> OntClassImpl.disjointWithPairs(model)
+                                .map(it -> new Node[]{it.getSubject().asNode(), it.getObject().asNode()}),
+                        () -> OntClassImpl.disjointGroups(model),
+                        (left, right) -> OntClassImpl.isDisjointWith(
+                                model.findNodeAs(left, OntClass.class),
+                                model.findNodeAs(right, OntClass.class)
+                        ),
+                        reserved::contains);
+            }
+            return disjointIndex;
+        }
+    }
+
+    private OntClass asClass(Node node, Function<OntClass, OntClass> view) {
+        OntClass res = model.findNodeAs(node, OntClass.class);
+        return res == null ? null : view.apply(res);
+    }
+
+    /**
+     * Lists all indexes that have been created.
+     *
+     * @return {@code Stream} of {@link HierarchyIndex}es
+     */
+    protected Stream<HierarchyIndex<?>> hierarchies() {
+        return Stream.concat(
+                Stream.<HierarchyIndex<?>>of(classHierarchy).filter(Objects::nonNull),
+                propertyHierarchies.values().stream()
+        );
+    }
+
+    /**
+     * Called when a triple is added into some data graph.
+     *
+     * @param triple {@link Triple}
+     */
+    protected void onAdd(Triple triple) {
+        hierarchies().forEach(it -> {
+            if (isSchemaChange(it, triple)) {
+                it.invalidate();
+            }
+            it.onAdd(triple);
+        });
+        DomainIndex domains = domainIndex;
+        if (domains != null) {
+            domains.onChange(triple);
+        }
+        DisjointIndex disjoints = disjointIndex;
+        if (disjoints != null) {
+            disjoints.onChange(triple);
+        }
+    }
+
+    /**
+     * Called when a triple is deleted from some data graph.
+     *
+     * @param triple {@link Triple}
+     */
+    protected void onDelete(Triple triple) {
+        hierarchies().forEach(it -> {
+            if (isSchemaChange(it, triple)) {
+                it.invalidate();
+            }
+            it.onDelete(triple);
+        });
+        DomainIndex domains = domainIndex;
+        if (domains != null) {
+            domains.onChange(triple);
+        }
+        DisjointIndex disjoints = disjointIndex;
+        if (disjoints != null) {
+            disjoints.onChange(triple);
+        }
+    }
+
+    /**
+     * Answers {@code true} if the triple may change the typing of nodes of the given hierarchy,
+     * see {@link #isTypingChange(OntGraphModelImpl, Triple)}.
+     *
+     * @param index  {@link HierarchyIndex}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected boolean isSchemaChange(HierarchyIndex<?> index, Triple triple) {
+        return !index.isHierarchyPredicate(triple.getPredicate()) && isTypingChange(model, triple);
+    }
+
+    /**
+     * Answers {@code true} if the triple may change the typing of classes and properties:
+     * it is a builtin declaration ({@code rdf:type} with a reserved object),
+     * or it belongs to the structure of an anonymous class expression, data range or inverse property
+     * (including {@code rdf:List}s), or to an annotated axiom;
+     * for the legacy named class test, domains and ranges also matter.
+     * Annotations and ABox triples do not affect typing.
+     *
+     * @param model  {@link OntGraphModelImpl}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    static boolean isTypingChange(OntGraphModelImpl model, Triple triple) {
+        Node predicate = triple.getPredicate();
+        if (RDF.Nodes.type.equals(predicate)) {
+            return model.getOntPersonality().getReserved().getAllResources().contains(triple.getObject());
+        }
+        if (STRUCTURAL_PREDICATES.contains(predicate)) {
+            return true;
+        }
+        // the legacy named class test takes into account domains and ranges
+        return (RDFS.Nodes.domain.equals(predicate) || RDFS.Nodes.range.equals(predicate)) &&
+                OntGraphModelImpl.configValue(model, OntModelControls.USE_LEGACY_COMPATIBLE_NAMED_CLASS_FACTORY);
+    }
+
+    /**
+     * Resets all indexes, called when a data graph is changed in an unknown way
+     * or when the structure of the hierarchy is changed.
+     *
+     * @param structureChanged if {@code true} the set of data graphs may be changed
+     */
+    protected void reset(boolean structureChanged) {
+        if (structureChanged) {
+            updateListeners();
+        }
+        hierarchies().forEach(HierarchyIndex::reset);
+        DomainIndex domains = domainIndex;
+        if (domains != null) {
+            domains.reset();
+        }
+        DisjointIndex disjoints = disjointIndex;
+        if (disjoints != null) {
+            disjoints.reset();
+        }
+    }
+
+    /**
+     * Registers the {@link #listener} in all graphs of the hierarchy and unregisters it from the graphs
+     * that are no longer part of the hierarchy.
+     */
+    protected synchronized void updateListeners() {
+        updateListeners(model, listener, listenedGraphs);
+    }
+
+    /**
+     * Registers the listener in all data graphs and all {@link UnionGraph}s of the model hierarchy
+     * and unregisters it from the graphs that are no longer part of the hierarchy.
+     *
+     * @param model          {@link OntGraphModelImpl}
+     * @param listener       {@link GraphListener}
+     * @param listenedGraphs {@code Set} of {@link Graph}s in which the listener is registered, to update
+     */
+    static void updateListeners(OntGraphModelImpl model, GraphListener listener, Set<Graph> listenedGraphs) {
+        Graph graph = model.getUnionGraph();
+        Set<Graph> required = Stream.concat(
+                Graphs.flatTree(graph, Function.identity(), Graphs::directSubGraphs).filter(it -> it instanceof UnionGraph),
+                Graphs.dataGraphs(graph)
+        ).collect(Collectors.toSet());
+        listenedGraphs.removeIf(g -> {
+            if (required.contains(g)) {
+                return false;
+            }
+            g.getEventManager().unregister(listener);
+            return true;
+        });
+        required.forEach(g -> {
+            if (listenedGraphs.add(g)) {
+                g.getEventManager().register(listener);
+            }
+        });
+    }
+
+    /**
+     * A listener to track changes in data graphs and in the structure of {@link UnionGraph}s.
+     * Triple events coming from {@link UnionGraph}s are ignored, since they are duplicated by data graphs.
+     */
+    protected static class Listener extends GraphListenerBase implements UnionGraph.Listener {
+        private final WeakReference<OntModelIndexes> indexes;
+
+        protected Listener(OntModelIndexes indexes) {
+            this.indexes = new WeakReference<>(indexes);
+        }
+
+        protected OntModelIndexes indexes(Graph source) {
+            OntModelIndexes res = indexes.get();
+            if (res == null) {
+                source.getEventManager().unregister(this);
+            }
+            return res;
+        }
+
+        @Override
+        protected void addTripleEvent(Graph g, Triple t) {
+            if (g instanceof UnionGraph) {
+                return;
+            }
+            OntModelIndexes res = indexes(g);
+            if (res != null) {
+                res.onAdd(t);
+            }
+        }
+
+        @Override
+        protected void deleteTripleEvent(Graph g, Triple t) {
+            if (g instanceof UnionGraph) {
+                return;
+            }
+            OntModelIndexes res = indexes(g);
+            if (res != null) {
+                res.onDelete(t);
+            }
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            onUnknownChange(g);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph removed) {
+            onUnknownChange(g);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            if (value == GraphEvents.startRead || value == GraphEvents.finishRead || value instanceof OntModelEvent) {
+                return;
+            }
+            onUnknownChange(source);
+        }
+
+        private void onUnknownChange(Graph g) {
+            if (g instanceof UnionGraph) {
+                return;
+            }
+            OntModelIndexes res = indexes(g);
+            if (res != null) {
+                res.reset(false);
+            }
+        }
+
+        private void onStructureChange(Graph g) {
+            OntModelIndexes res = indexes(g);
+            if (res != null) {
+                res.reset(true);
+            }
+        }
+
+        @Override
+        public void onAddTriple(UnionGraph graph, Triple triple) {
+        }
+
+        @Override
+        public void onDeleteTriple(UnionGraph graph, Triple triple) {
+        }
+
+        @Override
+        public void onClear(UnionGraph graph) {
+        }
+
+        @Override
+        public void onAddSubGraph(UnionGraph graph, Graph subGraph) {
+        }
+
+        @Override
+        public void onRemoveSubGraph(UnionGraph graph, Graph subGraph) {
+        }
+
+        @Override
+        public void notifySubGraphAdded(UnionGraph graph, Graph subGraph) {
+            onStructureChange(graph);
+        }
+
+        @Override
+        public void notifySuperGraphAdded(UnionGraph graph, UnionGraph superGraph) {
+        }
+
+        @Override
+        public void notifySubGraphRemoved(UnionGraph graph, Graph subGraph) {
+            onStructureChange(graph);
+        }
+    }
+}
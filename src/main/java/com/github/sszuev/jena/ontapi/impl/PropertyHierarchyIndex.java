@@ -0,0 +1,143 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.model.OntProperty;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.RDFS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A {@link HierarchyIndex} for the {@code rdfs:subPropertyOf} hierarchy,
+ * which also takes into account {@code owl:equivalentProperty} and {@code owl:inverseOf} (if enabled):
+ * <ul>
+ * <li>{@code P owl:equivalentProperty Q} produces two edges: {@code P -> Q} and {@code Q -> P},
+ * so equivalent properties are mutual subproperties</li>
+ * <li>if {@code P owl:inverseOf P'} and {@code Q owl:inverseOf Q'}, then the edge {@code P -> Q} produces the edge
+ * {@code P' -> Q'}; two inverses of the same property are equivalent</li>
+ * </ul>
+ * Inverses are derived in one step from the explicit edges, there is no fixpoint iteration.
+ * Changes of {@code rdfs:subPropertyOf} that do not touch properties with inverses are handled incrementally,
+ * any other change of the hierarchy predicates resets the index.
+ *
+ * @param <X> subtype of {@link OntProperty}
+ */
+public class PropertyHierarchyIndex<X extends OntProperty> extends HierarchyIndex<X> {
+    private static final Node SUB_PROPERTY_OF = RDFS.subPropertyOf.asNode();
+    private static final Node EQUIVALENT_PROPERTY = OWL.equivalentProperty.asNode();
+    private static final Node INVERSE_OF = OWL.inverseOf.asNode();
+
+    protected final boolean withEquivalents;
+    protected final boolean withInverses;
+    /**
+     * Property to its inverses, {@code null} if the index is not built.
+     */
+    protected Map<Node, Set<Node>> inverses;
+
+    /**
+     * Creates an index.
+     *
+     * @param graph           {@link Graph} to build the adjacency, not {@code null}
+     * @param mapping         a {@code Function} to map a node to {@link X}, may return {@code null}
+     * @param withEquivalents if {@code true} {@code owl:equivalentProperty} is taken into account
+     * @param withInverses    if {@code true} {@code owl:inverseOf} is taken into account
+     */
+    public PropertyHierarchyIndex(Graph graph,
+                                  Function<Node, X> mapping,
+                                  boolean withEquivalents,
+                                  boolean withInverses) {
+        super(graph, SUB_PROPERTY_OF, mapping, mapping);
+        this.withEquivalents = withEquivalents;
+        this.withInverses = withInverses;
+    }
+
+    @Override
+    public boolean isHierarchyPredicate(Node predicate) {
+        return SUB_PROPERTY_OF.equals(predicate) ||
+                (withEquivalents && EQUIVALENT_PROPERTY.equals(predicate)) ||
+                (withInverses && INVERSE_OF.equals(predicate));
+    }
+
+    @Override
+    public synchronized void onAdd(Triple triple) {
+        if (requiresReset(triple)) {
+            reset();
+            return;
+        }
+        super.onAdd(triple);
+    }
+
+    @Override
+    public synchronized void onDelete(Triple triple) {
+        if (requiresReset(triple)) {
+            reset();
+            return;
+        }
+        super.onDelete(triple);
+    }
+
+    @Override
+    public synchronized void reset() {
+        inverses = null;
+        super.reset();
+    }
+
+    private boolean requiresReset(Triple triple) {
+        if (up == null || !isHierarchyPredicate(triple.getPredicate())) {
+            return false;
+        }
+        if (!SUB_PROPERTY_OF.equals(triple.getPredicate())) {
+            return true;
+        }
+        return inverses.containsKey(triple.getSubject()) || inverses.containsKey(triple.getObject());
+    }
+
+    @Override
+    protected void loadEdges(BiConsumer<Node, Node> edges) {
+        List<Node[]> explicit = new ArrayList<>();
+        BiConsumer<Node, Node> collector = (sub, sup) -> {
+            explicit.add(new Node[]{sub, sup});
+            edges.accept(sub, sup);
+        };
+        super.loadEdges(collector);
+        if (withEquivalents) {
+            find(EQUIVALENT_PROPERTY, (left, right) -> {
+                collector.accept(left, right);
+                collector.accept(right, left);
+            });
+        }
+        Map<Node, Set<Node>> inverses = new HashMap<>();
+        if (withInverses) {
+            find(INVERSE_OF, (left, right) -> {
+                inverses.computeIfAbsent(left, it -> new HashSet<>()).add(right);
+                inverses.computeIfAbsent(right, it -> new HashSet<>()).add(left);
+            });
+        }
+        this.inverses = inverses;
+        if (inverses.isEmpty()) {
+            return;
+        }
+        inverses.values().forEach(equivalents -> equivalents.forEach(left -> equivalents.forEach(right -> {
+            if (!left.equals(right)) {
+                edges.accept(left, right);
+            }
+        })));
+        explicit.forEach(edge -> {
+            Set<Node> subs = inverses.get(edge[0]);
+            Set<Node> supers = inverses.get(edge[1]);
+            if (subs == null || supers == null) {
+                return;
+            }
+            subs.forEach(sub -> supers.forEach(sup -> edges.accept(sub, sup)));
+        });
+    }
+}
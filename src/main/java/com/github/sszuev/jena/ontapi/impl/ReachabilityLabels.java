@@ -0,0 +1,238 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import org.apache.jena.graph.Node;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable reachability labeling of a directed graph, which is given as an adjacency map.
+ * Answers the question "is the node {@code b} reachable from the node {@code a}" in near-constant time.
+ * <p>
+ * The graph is condensed into a DAG of strongly connected components (Tarjan's algorithm),
+ * then each component gets several interval labels (GRAIL scheme):
+ * {@code [min rank of descendants, own rank]} for some randomized post-order traversals.
+ * If the label of {@code b} is not contained in the label of {@code a}, then {@code b} is not reachable from {@code a};
+ * if {@code b} is a descendant of {@code a} in the spanning tree of the first traversal, then it is reachable.
+ * Only in the remaining (rare) cases a depth-first search, pruned by the labels, is performed.
+ */
+public final class ReachabilityLabels {
+    private static final int TRAVERSALS = 2;
+    private static final long SEED = 42;
+
+    private final Map<Node, Integer> components;
+    // component -> components
+    private final int[][] edges;
+    // component -> size of component
+    private final int[] sizes;
+    // [traversal][component] -> low and rank
+    private final int[][] lows;
+    private final int[][] ranks;
+    // component -> pre-order number in the spanning tree of the first traversal
+    private final int[] pre;
+
+    private ReachabilityLabels(Map<Node, Integer> components, int[][] edges, int[] sizes) {
+        this.components = components;
+        this.edges = edges;
+        this.sizes = sizes;
+        int n = edges.length;
+        this.lows = new int[TRAVERSALS][n];
+        this.ranks = new int[TRAVERSALS][n];
+        this.pre = new int[n];
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRAVERSALS; i++) {
+            label(i, i == 0 ? null : random);
+        }
+    }
+
+    /**
+     * Builds labels for the given graph.
+     *
+     * @param adjacency {@code Map} node to its children, not {@code null}
+     * @param keep      {@code Predicate} to filter the children, not {@code null}
+     * @return {@link ReachabilityLabels}
+     */
+    public static ReachabilityLabels build(Map<Node, Set<Node>> adjacency, Predicate<Node> keep) {
+        Map<Node, Integer> ids = new HashMap<>();
+        List<Node> nodes = new ArrayList<>();
+        List<int[]> children = new ArrayList<>();
+        adjacency.keySet().forEach(it -> id(it, ids, nodes, children));
+        adjacency.forEach((node, values) -> {
+            int[] res = values.stream()
+                    .filter(keep)
+                    .mapToInt(it -> id(it, ids, nodes, children))
+                    .toArray();
+            children.set(ids.get(node), res);
+        });
+        int[][] graph = children.toArray(new int[0][]);
+        int[] components = StronglyConnectedComponents.components(graph);
+        int size = StronglyConnectedComponents.count(components);
+        int[] sizes = new int[size];
+        List<BitSet> condensed = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            condensed.add(new BitSet());
+        }
+        for (int i = 0; i < graph.length; i++) {
+            int from = components[i];
+            sizes[from]++;
+            for (int child : graph[i]) {
+                int to = components[child];
+                if (from != to) {
+                    condensed.get(from).set(to);
+                }
+            }
+        }
+        Map<Node, Integer> res = new HashMap<>();
+        for (int i = 0; i < components.length; i++) {
+            res.put(nodes.get(i), components[i]);
+        }
+        return new ReachabilityLabels(res, condensed.stream().map(it -> it.stream().toArray()).toArray(int[][]::new), sizes);
+    }
+
+    private static int id(Node node, Map<Node, Integer> ids, List<Node> nodes, List<int[]> children) {
+        return ids.computeIfAbsent(node, it -> {
+            nodes.add(it);
+            children.add(new int[0]);
+            return nodes.size() - 1;
+        });
+    }
+
+    /**
+     * Answers {@code true} if there is a path from {@code a} to {@code b}.
+     * A node is considered reachable from itself only if it is a part of a cycle with other nodes
+     * (self-loops are ignored).
+     *
+     * @param a {@link Node} start
+     * @param b {@link Node} end
+     * @return boolean
+     */
+    public boolean reaches(Node a, Node b) {
+        Integer from = components.get(a);
+        Integer to = components.get(b);
+        if (from == null || to == null) {
+            return false;
+        }
+        if (from.equals(to)) {
+            return !a.equals(b) || sizes[from] > 1;
+        }
+        return reaches(from, to);
+    }
+
+    private boolean reaches(int from, int to) {
+        if (!mayReach(from, to)) {
+            return false;
+        }
+        if (pre[from] <= pre[to] && ranks[0][to] <= ranks[0][from]) {
+            // descendant in the spanning tree
+            return true;
+        }
+        BitSet seen = new BitSet(edges.length);
+        int[] stack = new int[edges.length];
+        int top = 0;
+        stack[top++] = from;
+        seen.set(from);
+        while (top > 0) {
+            int next = stack[--top];
+            for (int child : edges[next]) {
+                if (child == to) {
+                    return true;
+                }
+                if (seen.get(child) || !mayReach(child, to)) {
+                    continue;
+                }
+                seen.set(child);
+                stack[top++] = child;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayReach(int from, int to) {
+        for (int i = 0; i < TRAVERSALS; i++) {
+            if (lows[i][to] < lows[i][from] || ranks[i][to] > ranks[i][from]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Performs an iterative post-order traversal of the DAG and assigns interval labels.
+     *
+     * @param traversal the index of traversal
+     * @param random    {@link Random} to shuffle the order of roots and children, or {@code null} to keep the order
+     */
+    private void label(int traversal, Random random) {
+        int n = edges.length;
+        int[] low = lows[traversal];
+        int[] rank = ranks[traversal];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        if (random != null) {
+            shuffle(order, random);
+        }
+        boolean[] visited = new boolean[n];
+        int[] stack = new int[n];
+        int[] position = new int[n];
+        int[][] children = random == null ? edges : new int[n][];
+        int counter = 0;
+        int preCounter = 0;
+        for (int root : order) {
+            if (visited[root]) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            visited[root] = true;
+            if (random == null) {
+                pre[root] = preCounter++;
+            } else {
+                children[root] = shuffle(edges[root].clone(), random);
+            }
+            low[root] = Integer.MAX_VALUE;
+            while (top > 0) {
+                int next = stack[top - 1];
+                if (position[next] < children[next].length) {
+                    int child = children[next][position[next]++];
+                    if (!visited[child]) {
+                        visited[child] = true;
+                        if (random == null) {
+                            pre[child] = preCounter++;
+                        } else {
+                            children[child] = shuffle(edges[child].clone(), random);
+                        }
+                        low[child] = Integer.MAX_VALUE;
+                        stack[top++] = child;
+                    } else {
+                        low[next] = Math.min(low[next], low[child]);
+                    }
+                    continue;
+                }
+                rank[next] = counter++;
+                low[next] = Math.min(low[next], rank[next]);
+                if (--top > 0) {
+                    int parent = stack[top - 1];
+                    low[parent] = Math.min(low[parent], low[next]);
+                }
+            }
+        }
+    }
+
+    private static int[] shuffle(int[] array, Random random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+        return array;
+    }
+}
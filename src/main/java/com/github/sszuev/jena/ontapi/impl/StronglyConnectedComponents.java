@@ -0,0 +1,96 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import java.util.Arrays;
+
+/**
+ * Finds strongly connected components of a directed graph using the iterative Tarjan's algorithm.
+ * The graph is given as an adjacency array: {@code graph[i]} contains the ids of children of the node {@code i}.
+ * <p>
+ * Components are numbered in reverse topological order of the condensed DAG:
+ * if there is an edge from a component {@code a} to a different component {@code b}, then {@code b < a}.
+ */
+public final class StronglyConnectedComponents {
+    private final int[][] graph;
+    private final int[] index;
+    private final int[] low;
+    private final int[] components;
+    private final boolean[] onStack;
+
+    private StronglyConnectedComponents(int[][] graph) {
+        this.graph = graph;
+        int n = graph.length;
+        this.index = new int[n];
+        this.low = new int[n];
+        this.components = new int[n];
+        this.onStack = new boolean[n];
+        Arrays.fill(index, -1);
+    }
+
+    /**
+     * Computes the strongly connected components.
+     *
+     * @param graph adjacency array, not {@code null}
+     * @return array of component ids, indexed by node id
+     */
+    public static int[] components(int[][] graph) {
+        return new StronglyConnectedComponents(graph).run();
+    }
+
+    /**
+     * Returns the number of components.
+     *
+     * @param components array of component ids, see {@link #components(int[][])}
+     * @return int
+     */
+    public static int count(int[] components) {
+        return Arrays.stream(components).max().orElse(-1) + 1;
+    }
+
+    private int[] run() {
+        int n = graph.length;
+        int[] stack = new int[n];
+        int[] callStack = new int[n];
+        int[] position = new int[n];
+        int top = 0;
+        int counter = 0;
+        int component = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            int call = 0;
+            callStack[call++] = root;
+            while (call > 0) {
+                int v = callStack[call - 1];
+                if (position[v] == 0 && index[v] == -1) {
+                    index[v] = low[v] = counter++;
+                    stack[top++] = v;
+                    onStack[v] = true;
+                }
+                if (position[v] < graph[v].length) {
+                    int w = graph[v][position[v]++];
+                    if (index[w] == -1) {
+                        callStack[call++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--top];
+                        onStack[w] = false;
+                        components[w] = component;
+                    } while (w != v);
+                    component++;
+                }
+                if (--call > 0) {
+                    int parent = callStack[call - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+            }
+        }
+        return components;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import org.apache.jena.graph.Triple;
+
+/**
+ * A compact open-addressing set of {@link Triple} hashes.
+ * It does not hold references to triples, only their {@code int} hash codes,
+ * and therefore it cannot answer exactly whether a triple has been seen:
+ * the method {@link #add(Triple)} returning {@code false} means that the triple <b>might</b> have been seen before.
+ * A caller must perform an exact check in this case.
+ * Memory consumption is about {@code 8} bytes per item (load factor is {@code 0.5}),
+ * which is much less than {@link java.util.HashSet}.
+ */
+final class TripleHashSet {
+    private static final int EMPTY = 0;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] table = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the hash of the specified triple.
+     *
+     * @param triple {@link Triple}, not {@code null}
+     * @return {@code true} if the hash was absent, i.e. the triple is definitely new,
+     * {@code false} if the triple may be a duplicate
+     */
+    boolean add(Triple triple) {
+        int hash = hash(triple);
+        if (!insert(table, hash)) {
+            return false;
+        }
+        if (++size > table.length >>> 1) {
+            grow();
+        }
+        return true;
+    }
+
+    private void grow() {
+        int[] res = new int[table.length << 1];
+        for (int h : table) {
+            if (h != EMPTY) {
+                insert(res, h);
+            }
+        }
+        table = res;
+    }
+
+    private static boolean insert(int[] table, int hash) {
+        int mask = table.length - 1;
+        int index = hash & mask;
+        while (true) {
+            int current = table[index];
+            if (current == EMPTY) {
+                table[index] = hash;
+                return true;
+            }
+            if (current == hash) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static int hash(Triple triple) {
+        int h = triple.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h == EMPTY ? 1 : h;
+    }
+}
@@ -7,25 +7,34 @@ import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphEventManager;
 import org.apache.jena.graph.GraphEvents;
 import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.GraphUtil;
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.graph.compose.CompositionBase;
 import org.apache.jena.graph.impl.SimpleEventManager;
 import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.sparql.graph.GraphReadOnly;
 import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.WrappedIterator;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -41,6 +50,11 @@ import java.util.stream.Stream;
  */
 @SuppressWarnings({"WeakerAccess"})
 public class UnionGraphImpl extends CompositionBase implements UnionGraph {
+    /**
+     * The number of triples processed at once by the bulk operations
+     * {@link #addAll(Iterator)} and {@link #deleteAll(Iterator)}.
+     */
+    public static final int BULK_BATCH_SIZE = 10_000;
 
     protected final Graph base;
     protected final SubGraphs subGraphs;
@@ -61,6 +75,63 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
      * This {@code Set} cannot contain {@link UnionGraph}s.
      */
     protected Set<Graph> descendantBases;
+    /**
+     * Optional {@link GraphSummary summaries} of all data graphs from the {@link #descendantBases cache},
+     * used to skip graphs that cannot contain a triple pattern while {@link Graph#find(Triple) #find(..)}
+     * and {@link Graph#contains(Triple) #contains(..)}.
+     * If {@code null} the summaries are disabled.
+     */
+    protected Map<Graph, GraphSummary> summaries;
+    /**
+     * The strategy to eliminate duplicates while {@link Graph#find(Triple) #find(..)}, used if the graph is {@link #distinct}.
+     */
+    protected DistinctMode distinctMode = DistinctMode.HASH_SET;
+    /**
+     * If {@code true}, read operations are performed on the {@link #snapshot}.
+     */
+    protected boolean materialized;
+    /**
+     * A flattened indexed copy of all data graphs from the hierarchy without duplicates,
+     * used by read operations if the graph is {@link #materialized}.
+     * It is reset on any change in the hierarchy structure or in any of the data graphs.
+     */
+    protected Graph snapshot;
+    /**
+     * If {@code true}, the number of triples is maintained.
+     */
+    protected boolean sizeTracking;
+    /**
+     * The maintained number of triples, {@code -1} if unknown; used if {@link #sizeTracking} is enabled.
+     */
+    protected long size = -1;
+    /**
+     * {@code true} while this graph modifies its base graph, such changes are taken into account in the {@link #size}.
+     */
+    protected boolean modifying;
+    /**
+     * If {@code true}, the graph checks whether its data graphs have common triples,
+     * and if they do not, the duplicate checking is skipped.
+     */
+    protected boolean overlapAnalysis;
+    /**
+     * The result of the overlap analysis:
+     * {@code true} if the data graphs are pairwise disjoint, {@code null} if unknown.
+     */
+    protected Boolean disjointBases;
+    /**
+     * Optional statistics of {@code find} and {@code contains} operations on data graphs.
+     * If {@code null} the metrics are disabled.
+     */
+    protected UnionGraphMetrics metrics;
+    /**
+     * A listener to track direct modifications of data graphs from the hierarchy,
+     * that are made bypassing this union graph.
+     */
+    protected final BaseGraphListener baseGraphListener = new BaseGraphListener(this);
+    /**
+     * The data graphs in whose event managers the {@link #baseGraphListener} is registered.
+     */
+    protected final Set<Graph> listenedBases = new HashSet<>();
 
     /**
      * Creates an instance with default settings.
@@ -150,6 +221,223 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         return distinct;
     }
 
+    /**
+     * Sets the strategy to eliminate duplicates while {@link Graph#find(Triple) #find(..)}.
+     * Has no effect if the graph is not {@link #isDistinct() distinct}.
+     *
+     * @param mode {@link DistinctMode}, not {@code null}
+     * @return this instance
+     */
+    public UnionGraphImpl setDistinctMode(DistinctMode mode) {
+        this.distinctMode = Objects.requireNonNull(mode);
+        return this;
+    }
+
+    /**
+     * Answers the strategy to eliminate duplicates while {@link Graph#find(Triple) #find(..)}.
+     *
+     * @return {@link DistinctMode}, not {@code null}
+     * @see #setDistinctMode(DistinctMode)
+     */
+    public DistinctMode getDistinctMode() {
+        return distinctMode;
+    }
+
+    /**
+     * Enables or disables materialized mode.
+     * In this mode, all read operations are performed on a flattened indexed read-only {@link #snapshot() snapshot}
+     * of all data graphs from the hierarchy, which is built on demand.
+     * The snapshot is invalidated by any structural change of the hierarchy
+     * and by any modification of any data graph (including direct modifications, bypassing this union graph).
+     * This mode is designed for hierarchies that are rarely changed after loading.
+     * Note that the snapshot never contains duplicates, even if the graph is not {@link #isDistinct() distinct}.
+     *
+     * @param enable boolean
+     * @return this instance
+     */
+    public UnionGraphImpl setMaterialized(boolean enable) {
+        this.materialized = enable;
+        this.snapshot = null;
+        getDescendantBases();
+        updateBaseGraphListeners();
+        return this;
+    }
+
+    /**
+     * Answers {@code true} if the materialized mode is enabled.
+     *
+     * @return boolean
+     * @see #setMaterialized(boolean)
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Enables or disables size tracking.
+     * In this mode the number of triples (i.e. the value returned by {@link #size()}) is maintained:
+     * it is calculated once and then updated on every add or delete made through this graph.
+     * Any other change of the hierarchy (a sub-graph change, a direct modification of a data graph,
+     * {@link #clear()} or {@link #remove(Node, Node, Node)}) causes recalculation on the next request.
+     *
+     * @param enable boolean
+     * @return this instance
+     * @see #isSized()
+     */
+    public UnionGraphImpl setSizeTracking(boolean enable) {
+        this.sizeTracking = enable;
+        this.size = -1;
+        getDescendantBases();
+        updateBaseGraphListeners();
+        return this;
+    }
+
+    /**
+     * Answers {@code true} if size tracking is enabled.
+     *
+     * @return boolean
+     * @see #setSizeTracking(boolean)
+     */
+    @Override
+    public boolean isSized() {
+        return sizeTracking;
+    }
+
+    /**
+     * Enables or disables overlap analysis.
+     * If enabled, a distinct graph checks whether its data graphs are pairwise disjoint (i.e. have no common triples),
+     * and if so, the method {@link #find(Triple)} skips the duplicate checking,
+     * since it cannot produce duplicates anyway.
+     * The analysis is performed lazily and repeated after any change in the hierarchy structure;
+     * additions into data graphs are checked incrementally.
+     *
+     * @param enable boolean
+     * @return this instance
+     */
+    public UnionGraphImpl setOverlapAnalysis(boolean enable) {
+        this.overlapAnalysis = enable;
+        this.disjointBases = null;
+        getDescendantBases();
+        updateBaseGraphListeners();
+        return this;
+    }
+
+    /**
+     * Answers {@code true} if overlap analysis is enabled.
+     *
+     * @return boolean
+     * @see #setOverlapAnalysis(boolean)
+     */
+    public boolean isOverlapAnalysisEnabled() {
+        return overlapAnalysis;
+    }
+
+    /**
+     * Answers {@code true} if overlap analysis is enabled and has proven that the data graphs have no common triples.
+     *
+     * @return boolean
+     * @see #setOverlapAnalysis(boolean)
+     */
+    public boolean hasDisjointBases() {
+        if (!overlapAnalysis) {
+            return false;
+        }
+        Boolean res = disjointBases;
+        if (res == null) {
+            disjointBases = res = computeDisjointBases();
+        }
+        return res;
+    }
+
+    /**
+     * Checks whether the data graphs from the hierarchy are pairwise disjoint.
+     * Triples of each graph are tested against all larger graphs,
+     * so the largest graph is never iterated.
+     *
+     * @return boolean
+     */
+    protected boolean computeDisjointBases() {
+        List<Graph> graphs = new ArrayList<>(getDescendantBases());
+        if (graphs.size() < 2) {
+            return true;
+        }
+        graphs.sort(Comparator.comparingLong(g -> Graphs.isSized(g) ? Graphs.size(g) : Long.MAX_VALUE));
+        for (int i = 0; i < graphs.size() - 1; i++) {
+            List<Graph> others = graphs.subList(i + 1, graphs.size());
+            ExtendedIterator<Triple> triples = graphs.get(i).find();
+            try {
+                while (triples.hasNext()) {
+                    Triple t = triples.next();
+                    for (Graph other : others) {
+                        if (other.contains(t)) {
+                            return false;
+                        }
+                    }
+                }
+            } finally {
+                triples.close();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Answers {@code true} if the triple from the specified data graph is also present in some other data graph.
+     *
+     * @param graph  {@link Graph}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected boolean isShared(Graph graph, Triple triple) {
+        for (Graph other : getDescendantBases()) {
+            if (other != graph && other.contains(triple)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Enables or disables {@link UnionGraphMetrics metrics}.
+     * When enabled, every {@code find} and {@code contains} call on each data graph from the hierarchy is measured:
+     * the number of calls, the number of returned triples and the time spent.
+     * This allows finding out which import dominates the query cost.
+     * The collected statistics can be exported to JMX, see {@link UnionGraphMetrics#registerMBean(String)}.
+     * Note that the snapshot of a {@link #isMaterialized() materialized} graph is not measured.
+     *
+     * @param enable boolean
+     * @return this instance
+     */
+    public UnionGraphImpl setMetrics(boolean enable) {
+        if (enable != (metrics != null)) {
+            metrics = enable ? new UnionGraphMetrics() : null;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the {@link UnionGraphMetrics metrics} if enabled.
+     *
+     * @return {@link UnionGraphMetrics} or {@code null} if the metrics are disabled
+     * @see #setMetrics(boolean)
+     */
+    public UnionGraphMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns a read-only snapshot of this graph,
+     * i.e. a flattened copy of all data graphs from the hierarchy without duplicates.
+     * If the graph is {@link #isMaterialized() materialized}, the returned graph is the cached snapshot,
+     * which must not be used after any modification in the hierarchy.
+     *
+     * @return {@link Graph}
+     */
+    public Graph snapshot() {
+        checkOpen();
+        return new GraphReadOnly(materialized ? getSnapshot() : createSnapshot());
+    }
+
     /**
      * Returns the base (primary) graph.
      *
@@ -169,6 +457,42 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         return subGraphs;
     }
 
+    /**
+     * Enables or disables {@link GraphSummary graph summaries}.
+     * When enabled, each data graph from the hierarchy gets a compact summary
+     * (a set of predicates and Bloom filters of subjects and objects),
+     * which allows skipping graphs that definitely cannot match a triple pattern.
+     * This is useful for hierarchies with many imports.
+     * The summaries are registered as listeners in the event managers of the data graphs,
+     * since the data graphs may be modified directly, bypassing this union graph;
+     * the listeners hold the summaries weakly, so a dropped union graph does not leak them.
+     *
+     * @param enable boolean
+     * @return this instance
+     */
+    public UnionGraphImpl setGraphSummaries(boolean enable) {
+        if (enable == isGraphSummariesEnabled()) {
+            return this;
+        }
+        if (enable) {
+            summaries = new HashMap<>();
+        } else {
+            summaries.values().forEach(GraphSummary::unregister);
+            summaries = null;
+        }
+        return this;
+    }
+
+    /**
+     * Answers {@code true} if {@link GraphSummary graph summaries} are enabled.
+     *
+     * @return boolean
+     * @see #setGraphSummaries(boolean)
+     */
+    public boolean isGraphSummariesEnabled() {
+        return summaries != null;
+    }
+
     @Override
     public boolean hasSubGraph() {
         return !getSubGraphs().isEmpty();
@@ -187,15 +511,144 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
     @Override
     public void performAdd(Triple t) {
         getEventManager().onAddTriple(this, t);
-        if (!subGraphs.contains(t)) {
+        if (subGraphs.contains(t)) {
+            return;
+        }
+        if (size < 0) {
             base.add(t);
+            return;
+        }
+        // the data graph stores triples by term, while contains matches literals by value
+        boolean isNew = !containsExactly(base, t);
+        modifying = true;
+        try {
+            base.add(t);
+        } finally {
+            modifying = false;
+        }
+        if (isNew) {
+            size++;
         }
     }
 
     @Override
     public void performDelete(Triple t) {
         getEventManager().onDeleteTriple(this, t);
-        base.delete(t);
+        if (size < 0) {
+            base.delete(t);
+            return;
+        }
+        boolean isLast = containsExactly(base, t) && (!distinct || !subGraphs.containsExactly(t));
+        modifying = true;
+        try {
+            base.delete(t);
+        } finally {
+            modifying = false;
+        }
+        if (isLast) {
+            size--;
+        }
+    }
+
+    /**
+     * Adds all the given triples into the base graph.
+     * Triples are processed in batches of {@link #BULK_BATCH_SIZE} size;
+     * for each batch a single {@link UnionGraph.Listener#onAddTriples(UnionGraph, List)} event is fired,
+     * the sub-graph containment is checked graph by graph for the whole batch,
+     * and the remaining triples are added to the base graph at once.
+     *
+     * @param triples {@link Iterator} of {@link Triple}s, not {@code null}
+     */
+    @Override
+    public void addAll(Iterator<Triple> triples) {
+        checkOpen();
+        forEachBatch(triples, this::performAddAll);
+    }
+
+    /**
+     * Deletes all the given triples from the base graph.
+     * Triples are processed in batches of {@link #BULK_BATCH_SIZE} size;
+     * for each batch a single {@link UnionGraph.Listener#onDeleteTriples(UnionGraph, List)} event is fired.
+     *
+     * @param triples {@link Iterator} of {@link Triple}s, not {@code null}
+     */
+    @Override
+    public void deleteAll(Iterator<Triple> triples) {
+        checkOpen();
+        forEachBatch(triples, this::performDeleteAll);
+    }
+
+    private static void forEachBatch(Iterator<Triple> triples, Consumer<List<Triple>> action) {
+        List<Triple> batch = new ArrayList<>();
+        while (triples.hasNext()) {
+            batch.add(triples.next());
+            if (batch.size() == BULK_BATCH_SIZE) {
+                action.accept(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+    }
+
+    /**
+     * Adds the batch of triples.
+     *
+     * @param triples {@code List} of {@link Triple}s
+     * @see #addAll(Iterator)
+     */
+    protected void performAddAll(List<Triple> triples) {
+        getEventManager().onAddTriples(this, triples);
+        Set<Triple> res = new LinkedHashSet<>(triples);
+        Iterator<Graph> graphs = subGraphs.listGraphs();
+        while (graphs.hasNext() && !res.isEmpty()) {
+            Graph g = graphs.next();
+            res.removeIf(g::contains);
+        }
+        if (res.isEmpty()) {
+            return;
+        }
+        List<Triple> toAdd = new ArrayList<>(res);
+        if (size < 0) {
+            GraphUtil.add(base, toAdd);
+        } else {
+            long added = toAdd.stream().filter(t -> !containsExactly(base, t)).count();
+            modifying = true;
+            try {
+                GraphUtil.add(base, toAdd);
+            } finally {
+                modifying = false;
+            }
+            size += added;
+        }
+        getEventManager().notifyAddList(this, toAdd);
+    }
+
+    /**
+     * Deletes the batch of triples.
+     *
+     * @param triples {@code List} of {@link Triple}s
+     * @see #deleteAll(Iterator)
+     */
+    protected void performDeleteAll(List<Triple> triples) {
+        getEventManager().onDeleteTriples(this, triples);
+        List<Triple> toDelete = new ArrayList<>(new LinkedHashSet<>(triples));
+        if (size < 0) {
+            GraphUtil.delete(base, toDelete);
+        } else {
+            long deleted = toDelete.stream()
+                    .filter(t -> containsExactly(base, t) && (!distinct || !subGraphs.containsExactly(t)))
+                    .count();
+            modifying = true;
+            try {
+                GraphUtil.delete(base, toDelete);
+            } finally {
+                modifying = false;
+            }
+            size -= deleted;
+        }
+        getEventManager().notifyDeleteList(this, toDelete);
     }
 
     @Override
@@ -279,7 +732,65 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
      * Clears the {@link #descendantBases cache}.
      */
     protected void resetGraphsCache() {
-        getAllLinkedUnionGraphs().forEach(x -> x.descendantBases = null);
+        getAllLinkedUnionGraphs().forEach(UnionGraphImpl::resetCaches);
+    }
+
+    /**
+     * Clears all caches of this union graph, which depend on the hierarchy structure.
+     */
+    protected void resetCaches() {
+        descendantBases = null;
+        snapshot = null;
+        size = -1;
+        disjointBases = null;
+    }
+
+    /**
+     * Answers {@code true} if this graph needs to track changes in the data graphs of the hierarchy.
+     *
+     * @return boolean
+     * @see #onBaseGraphChange(Graph, Triple, boolean)
+     */
+    protected boolean isBaseGraphListenerRequired() {
+        return materialized || sizeTracking || overlapAnalysis;
+    }
+
+    /**
+     * Registers or unregisters the {@link #baseGraphListener} in the data graphs of the hierarchy.
+     */
+    protected void updateBaseGraphListeners() {
+        Set<Graph> required = isBaseGraphListenerRequired() ? getDescendantBases() : Set.of();
+        listenedBases.removeIf(g -> {
+            if (required.contains(g)) {
+                return false;
+            }
+            g.getEventManager().unregister(baseGraphListener);
+            return true;
+        });
+        required.forEach(g -> {
+            if (listenedBases.add(g)) {
+                g.getEventManager().register(baseGraphListener);
+            }
+        });
+    }
+
+    /**
+     * Called when any data graph of the hierarchy is modified.
+     *
+     * @param graph  {@link Graph} - the modified data graph
+     * @param triple {@link Triple} - the added or deleted triple, or {@code null} if the change is unknown
+     * @param added  {@code true} if the triple is added, or if the change may add triples
+     */
+    protected void onBaseGraphChange(Graph graph, Triple triple, boolean added) {
+        snapshot = null;
+        if (!modifying) {
+            size = -1;
+        }
+        if (triple == null) {
+            disjointBases = null;
+        } else if (added && disjointBases == Boolean.TRUE && isShared(graph, triple)) {
+            disjointBases = Boolean.FALSE;
+        }
     }
 
     /**
@@ -291,7 +802,78 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
      * @see UnionGraph#getBaseGraph()
      */
     public ExtendedIterator<Graph> listSubGraphBases() {
-        return Iterators.create(descendantBases == null ? descendantBases = getAllBaseGraphs() : descendantBases);
+        return Iterators.create(getDescendantBases());
+    }
+
+    /**
+     * Lists all indivisible (base) data {@code Graph}s that may contain the given triple pattern.
+     * If {@link #isGraphSummariesEnabled() summaries} are disabled, the method is equivalent to {@link #listSubGraphBases()}.
+     *
+     * @param m {@link Triple} pattern, not {@code null}
+     * @return <b>distinct</b> {@link ExtendedIterator} of {@link Graph}s
+     */
+    protected ExtendedIterator<Graph> listSubGraphBases(Triple m) {
+        if (summaries == null || !(m.getSubject().isConcrete() || m.getPredicate().isConcrete() || m.getObject().isConcrete())) {
+            return listSubGraphBases();
+        }
+        return listSubGraphBases().filterKeep(g -> getSummary(g).mayContain(m));
+    }
+
+    /**
+     * Returns the {@link #descendantBases cache}, recalculating it if needed.
+     *
+     * @return a {@code Set} (ordered) of {@link Graph}s
+     */
+    protected Set<Graph> getDescendantBases() {
+        if (descendantBases != null) {
+            return descendantBases;
+        }
+        descendantBases = getAllBaseGraphs();
+        if (!listenedBases.isEmpty() || isBaseGraphListenerRequired()) {
+            updateBaseGraphListeners();
+        }
+        if (summaries != null) {
+            summaries.values().removeIf(x -> {
+                if (descendantBases.contains(x.getGraph())) {
+                    return false;
+                }
+                x.unregister();
+                return true;
+            });
+        }
+        return descendantBases;
+    }
+
+    private GraphSummary getSummary(Graph graph) {
+        return summaries.computeIfAbsent(graph, g -> new GraphSummary(g).register());
+    }
+
+    /**
+     * Calculates all lazily initialized caches
+     * ({@link #descendantBases data graphs}, {@link #summaries}, overlap flag, snapshot and size),
+     * so that the subsequent reads do not change the state of this graph
+     * and therefore can be performed concurrently, as long as the data graphs support concurrent reads.
+     * Any modification in the hierarchy invalidates the caches again.
+     *
+     * @return this instance
+     */
+    public UnionGraphImpl warmUp() {
+        Set<Graph> graphs = getDescendantBases();
+        if (summaries != null) {
+            graphs.forEach(g -> getSummary(g).prepare());
+        }
+        if (subGraphs.isEmpty()) {
+            return this;
+        }
+        if (materialized) {
+            getSnapshot();
+        } else {
+            hasDisjointBases();
+        }
+        if (sizeTracking) {
+            getTrackedSize();
+        }
+        return this;
     }
 
     /**
@@ -316,19 +898,22 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
      */
     @Override
     public boolean graphBaseContains(Triple t) {
-        if (base.contains(t)) {
+        if (containsInBase(base, t)) {
             return true;
         }
         if (subGraphs.isEmpty()) {
             return false;
         }
-        Iterator<Graph> graphs = listSubGraphBases();
+        if (materialized) {
+            return getSnapshot().contains(t);
+        }
+        Iterator<Graph> graphs = listSubGraphBases(t);
         while (graphs.hasNext()) {
             Graph g = graphs.next();
             if (g == base) {
                 continue;
             }
-            if (g.contains(t)) {
+            if (containsInBase(g, t)) {
                 return true;
             }
         }
@@ -340,6 +925,12 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         if (subGraphs.isEmpty()) {
             return base.size();
         }
+        if (materialized) {
+            return getSnapshot().size();
+        }
+        if (sizeTracking) {
+            return (int) Math.min(Integer.MAX_VALUE, getTrackedSize());
+        }
         return super.graphBaseSize();
     }
 
@@ -348,6 +939,9 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         if (subGraphs.isEmpty()) {
             return base.isEmpty();
         }
+        if (materialized) {
+            return getSnapshot().isEmpty();
+        }
         return Iterators.findFirst(find()).isEmpty();
     }
 
@@ -362,13 +956,108 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
     @SuppressWarnings("JavadocReference")
     protected ExtendedIterator<Triple> createFindIterator(Triple m) {
         if (subGraphs.isEmpty()) {
-            return base.find(m);
+            return findInBase(base, m);
+        }
+        if (materialized) {
+            return WrappedIterator.createNoRemove(getSnapshot().find(m));
         }
-        if (!distinct) {
-            return Iterators.flatMap(listSubGraphBases(), x -> x.find(m));
+        if (!distinct || hasDisjointBases()) {
+            return Iterators.flatMap(listSubGraphBases(m), x -> findInBase(x, m));
         }
-        Set<Triple> seen = createSet();
-        return Iterators.flatMap(listSubGraphBases(), x -> CompositionBase.recording(rejecting(x.find(m), seen), seen));
+        return distinctMode.find(this, listSubGraphBases(m), m);
+    }
+
+    /**
+     * Lists triples matching the pattern from the given data graph, collecting {@link #metrics} if enabled.
+     *
+     * @param graph {@link Graph} - a data graph from the hierarchy
+     * @param m     {@link Triple} pattern
+     * @return {@link ExtendedIterator} of {@link Triple}s
+     */
+    protected ExtendedIterator<Triple> findInBase(Graph graph, Triple m) {
+        UnionGraphMetrics metrics = this.metrics;
+        return metrics == null ? graph.find(m) : metrics.find(graph, m);
+    }
+
+    /**
+     * Lists triples matching the pattern from the given data graph in the form of a {@code Stream}.
+     * If {@link #metrics} are disabled, the graph's own {@link Graph#stream(Node, Node, Node)} is used,
+     * which may provide a splittable source (e.g., for {@link org.apache.jena.mem2.GraphMem2}).
+     *
+     * @param graph {@link Graph} - a data graph from the hierarchy
+     * @param m     {@link Triple} pattern
+     * @return {@code Stream} of {@link Triple}s
+     */
+    protected Stream<Triple> streamInBase(Graph graph, Triple m) {
+        if (metrics == null) {
+            return graph.stream(m.getSubject(), m.getPredicate(), m.getObject());
+        }
+        return Iterators.asStream(findInBase(graph, m));
+    }
+
+    /**
+     * Answers {@code true} if the given data graph contains the triple, collecting {@link #metrics} if enabled.
+     *
+     * @param graph {@link Graph} - a data graph from the hierarchy
+     * @param t     {@link Triple}
+     * @return boolean
+     */
+    protected boolean containsInBase(Graph graph, Triple t) {
+        UnionGraphMetrics metrics = this.metrics;
+        return metrics == null ? graph.contains(t) : metrics.contains(graph, t);
+    }
+
+    /**
+     * Lists all triples matching the pattern {@code m} in the form of a parallel {@code Stream}.
+     * The returned stream is split by the indivisible data graphs from the hierarchy,
+     * and then by the splittable sources of the graphs, if any (see {@link #streamInBase(Graph, Triple)});
+     * the parts are processed by the {@link java.util.concurrent.ForkJoinPool#commonPool() common ForkJoin pool}.
+     * For a distinct graph, a triple found in some data graph is skipped
+     * if any previous graph (in the order of {@link #listSubGraphBases()}) contains it,
+     * so no shared state is required.
+     * The graph must not be modified while the stream is being processed.
+     *
+     * @param m {@link Triple} pattern, not {@code null}
+     * @return parallel {@code Stream} of {@link Triple}s
+     * @see #find(Triple)
+     */
+    @Override
+    public Stream<Triple> parallelFind(Triple m) {
+        checkOpen();
+        List<Graph> graphs = listSubGraphBases(m).toList();
+        boolean filter = distinct && graphs.size() > 1 && !hasDisjointBases();
+        List<Stream<Triple>> parts = new ArrayList<>(graphs.size());
+        for (int i = 0; i < graphs.size(); i++) {
+            Stream<Triple> part = streamInBase(graphs.get(i), m);
+            if (filter && i > 0) {
+                List<Graph> previous = graphs.subList(0, i);
+                part = part.filter(t -> previous.stream().noneMatch(g -> containsExactly(g, t)));
+            }
+            parts.add(part);
+        }
+        // Stream#flatMap does not split inner streams, so the parts are concatenated
+        return concat(parts, 0, parts.size()).parallel();
+    }
+
+    /**
+     * Concatenates the streams from the given range as a balanced tree,
+     * so that the result can be split into the original parts.
+     *
+     * @param parts {@code List} of {@code Stream}s
+     * @param from  {@code int} inclusive
+     * @param to    {@code int} exclusive
+     * @param <X>   the type of stream items
+     * @return {@code Stream}
+     */
+    private static <X> Stream<X> concat(List<Stream<X>> parts, int from, int to) {
+        if (from == to) {
+            return Stream.empty();
+        }
+        if (to - from == 1) {
+            return parts.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        return Stream.concat(concat(parts, from, middle), concat(parts, middle, to));
     }
 
     /**
@@ -383,6 +1072,78 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         return new HashSet<>();
     }
 
+    /**
+     * Returns the maintained {@link #size}, calculating it if needed.
+     * For a non-distinct graph, the size is a sum of sizes of all data graphs,
+     * that is the number of triples returned by {@link #find()}.
+     *
+     * @return long
+     */
+    protected long getTrackedSize() {
+        if (size >= 0) {
+            return size;
+        }
+        long res;
+        if (distinct) {
+            res = Iterators.count(createFindIterator(Triple.ANY));
+        } else {
+            res = 0;
+            Iterator<Graph> graphs = listSubGraphBases();
+            while (graphs.hasNext()) {
+                res += graphs.next().size();
+            }
+        }
+        return size = res;
+    }
+
+    /**
+     * Returns the {@link #snapshot}, building it if needed.
+     *
+     * @return {@link Graph}
+     */
+    protected Graph getSnapshot() {
+        Graph res = snapshot;
+        if (res == null) {
+            snapshot = res = createSnapshot();
+        }
+        return res;
+    }
+
+    /**
+     * Creates a flattened indexed copy of all data graphs from the hierarchy.
+     * The copy keeps the matching semantics of the data graphs:
+     * if any of them matches literals by value (as the default {@link org.apache.jena.mem.GraphMem} does),
+     * the copy also matches literals by value, otherwise by term.
+     *
+     * @return {@link Graph}
+     */
+    protected Graph createSnapshot() {
+        List<Graph> graphs = listSubGraphBases().toList();
+        Graph res = graphs.stream().anyMatch(g -> g.getCapabilities().handlesLiteralTyping())
+                ? GraphMemFactory.createGraphMem()
+                : GraphMemFactory.createDefaultGraphSameTerm();
+        graphs.forEach(g -> GraphUtil.addInto(res, g));
+        return res;
+    }
+
+    /**
+     * Answers {@code true} if the graph contains exactly the specified concrete triple.
+     * Unlike {@link Graph#contains(Triple)}, literals are compared by term, not by value.
+     *
+     * @param graph  {@link Graph}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    protected static boolean containsExactly(Graph graph, Triple triple) {
+        if (!graph.contains(triple)) {
+            return false;
+        }
+        if (!triple.getObject().isLiteral()) {
+            return true;
+        }
+        return Iterators.anyMatch(graph.find(triple), triple::equals);
+    }
+
     /**
      * Closes the graph including all related graphs.
      * Caution: this is an irreversible operation,
@@ -488,6 +1249,121 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
         return "UnionGraph{@" + hashCode() + "}";
     }
 
+    /**
+     * A listener to be registered in the event managers of the data graphs,
+     * it notifies the union graph about any change.
+     * Holds the union graph via weak reference to not prevent its garbage collection;
+     * once the union graph is collected, the listener unregisters itself on the next event.
+     */
+    protected static class BaseGraphListener extends GraphListenerBase {
+        private final WeakReference<UnionGraphImpl> graph;
+
+        protected BaseGraphListener(UnionGraphImpl graph) {
+            this.graph = new WeakReference<>(graph);
+        }
+
+        protected void onChange(Graph source, Triple triple, boolean added) {
+            UnionGraphImpl res = graph.get();
+            if (res == null) {
+                source.getEventManager().unregister(this);
+                return;
+            }
+            res.onBaseGraphChange(source, triple, added);
+        }
+
+        @Override
+        protected void addTripleEvent(Graph g, Triple t) {
+            onChange(g, t, true);
+        }
+
+        @Override
+        protected void deleteTripleEvent(Graph g, Triple t) {
+            onChange(g, t, false);
+        }
+
+        @Override
+        public void notifyAddGraph(Graph g, Graph added) {
+            onChange(g, null, true);
+        }
+
+        @Override
+        public void notifyDeleteGraph(Graph g, Graph removed) {
+            onChange(g, null, false);
+        }
+
+        @Override
+        public void notifyEvent(Graph source, Object value) {
+            onChange(source, null, true);
+        }
+    }
+
+    /**
+     * Strategies to eliminate duplicates while {@link Graph#find(Triple) #find(..)} for a distinct graph.
+     */
+    public enum DistinctMode {
+        /**
+         * Records every returned triple in a {@code Set} provided by the method {@link #createSet()}.
+         * This is the default mode. It may require a lot of memory for huge graphs.
+         */
+        HASH_SET {
+            @Override
+            ExtendedIterator<Triple> find(UnionGraphImpl graph, ExtendedIterator<Graph> bases, Triple m) {
+                Set<Triple> seen = graph.createSet();
+                return Iterators.flatMap(bases, x -> CompositionBase.recording(rejecting(graph.findInBase(x, m), seen), seen));
+            }
+        },
+        /**
+         * Records only hashes of the returned triples in a compact open-addressing table.
+         * If a hash has been seen, the triple is checked against all previously processed graphs.
+         * It requires much less memory than {@link #HASH_SET}
+         * at the cost of additional {@code contains} calls on hash collisions and real duplicates.
+         */
+        COMPACT_HASH {
+            @Override
+            ExtendedIterator<Triple> find(UnionGraphImpl graph, ExtendedIterator<Graph> bases, Triple m) {
+                TripleHashSet hashes = new TripleHashSet();
+                List<Graph> processed = new ArrayList<>();
+                return Iterators.flatMap(bases, x -> {
+                    List<Graph> previous = new ArrayList<>(processed);
+                    processed.add(x);
+                    return graph.findInBase(x, m).filterKeep(t -> hashes.add(t) || previous.stream().noneMatch(g -> containsExactly(g, t)));
+                });
+            }
+        },
+        /**
+         * Does not record triples from the first graph (usually it is the base graph, which is the largest one);
+         * triples from other graphs are checked against the first graph and recorded in a {@code Set}
+         * provided by the method {@link #createSet()}.
+         * This is the best choice when the base graph is big and the imports are small.
+         */
+        SKIP_FIRST {
+            @Override
+            ExtendedIterator<Triple> find(UnionGraphImpl graph, ExtendedIterator<Graph> bases, Triple m) {
+                Set<Triple> seen = graph.createSet();
+                Graph[] first = new Graph[1];
+                return Iterators.flatMap(bases, x -> {
+                    if (first[0] == null) {
+                        first[0] = x;
+                        return graph.findInBase(x, m);
+                    }
+                    Graph f = first[0];
+                    return CompositionBase.recording(rejecting(graph.findInBase(x, m), seen).filterDrop(t -> containsExactly(f, t)), seen);
+                });
+            }
+        },
+        ;
+
+        /**
+         * Lists all triples from the given graphs without duplicates.
+         *
+         * @param graph {@link UnionGraphImpl}
+         * @param bases {@link ExtendedIterator} of base {@link Graph}s
+         * @param m     {@link Triple} pattern
+         * @return {@link ExtendedIterator} of {@link Triple}s
+         */
+        abstract ExtendedIterator<Triple> find(UnionGraphImpl graph, ExtendedIterator<Graph> bases, Triple m);
+    }
+
     /**
      * A container to hold all sub-graphs, that make up the hierarchy.
      * Such a representation of sub-graphs collection in the form of separate class allows
@@ -570,6 +1446,23 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
             }
             return false;
         }
+
+        /**
+         * Tests if the given triple belongs to any of the sub-graphs,
+         * literals are compared by term, not by value.
+         *
+         * @param t {@link Triple} to test
+         * @return boolean
+         * @see UnionGraphImpl#containsExactly(Graph, Triple)
+         */
+        protected boolean containsExactly(Triple t) {
+            for (Graph g : graphs) {
+                if (UnionGraphImpl.containsExactly(g, t)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     /**
@@ -579,57 +1472,148 @@ public class UnionGraphImpl extends CompositionBase implements UnionGraph {
     public static class EventManagerImpl extends SimpleEventManager implements EventManager {
 
         private final List<GraphListener> inactive = new ArrayList<>();
+        /**
+         * A cached array of {@link Listener}s, {@code null} if it needs to be recalculated.
+         * Event dispatching is on the hot path of every triple modification,
+         * so it should not create any objects.
+         */
+        private volatile Listener[] unionListeners;
+
+        /**
+         * Returns all encapsulated {@link Listener}s as an array.
+         *
+         * @return array of {@link Listener}s, possibly empty
+         */
+        protected Listener[] unionListeners() {
+            Listener[] res = unionListeners;
+            if (res == null) {
+                unionListeners = res = listeners.stream()
+                        .filter(it -> it instanceof Listener)
+                        .map(it -> (Listener) it)
+                        .toArray(Listener[]::new);
+            }
+            return res;
+        }
+
+        /**
+         * Resets the listeners cache.
+         */
+        protected void resetCache() {
+            unionListeners = null;
+        }
+
+        @Override
+        public GraphEventManager register(GraphListener listener) {
+            super.register(listener);
+            resetCache();
+            return this;
+        }
+
+        @Override
+        public GraphEventManager unregister(GraphListener listener) {
+            super.unregister(listener);
+            resetCache();
+            return this;
+        }
+
+        @Override
+        public void notifyAddTriple(Graph g, Triple t) {
+            if (listeners.isEmpty()) {
+                return;
+            }
+            super.notifyAddTriple(g, t);
+        }
+
+        @Override
+        public void notifyDeleteTriple(Graph g, Triple t) {
+            if (listeners.isEmpty()) {
+                return;
+            }
+            super.notifyDeleteTriple(g, t);
+        }
 
         @Override
         public void onAddTriple(UnionGraph graph, Triple triple) {
-            listeners(Listener.class).forEach(it -> it.onAddTriple(graph, triple));
+            for (Listener it : unionListeners()) {
+                it.onAddTriple(graph, triple);
+            }
         }
 
         @Override
         public void onDeleteTriple(UnionGraph graph, Triple triple) {
-            listeners(Listener.class).forEach(it -> it.onDeleteTriple(graph, triple));
+            for (Listener it : unionListeners()) {
+                it.onDeleteTriple(graph, triple);
+            }
         }
 
         @Override
         public void onAddSubGraph(UnionGraph graph, Graph subGraph) {
-            listeners(Listener.class).forEach(it -> it.onAddSubGraph(graph, subGraph));
+            for (Listener it : unionListeners()) {
+                it.onAddSubGraph(graph, subGraph);
+            }
+        }
+
+        @Override
+        public void onAddTriples(UnionGraph graph, List<Triple> triples) {
+            for (Listener it : unionListeners()) {
+                it.onAddTriples(graph, triples);
+            }
+        }
+
+        @Override
+        public void onDeleteTriples(UnionGraph graph, List<Triple> triples) {
+            for (Listener it : unionListeners()) {
+                it.onDeleteTriples(graph, triples);
+            }
         }
 
         @Override
         public void onClear(UnionGraph graph) {
-            listeners(Listener.class).forEach(it -> it.onClear(graph));
+            for (Listener it : unionListeners()) {
+                it.onClear(graph);
+            }
         }
 
         @Override
         public void notifySubGraphAdded(UnionGraph graph, Graph subGraph) {
-            listeners(Listener.class).forEach(it -> it.notifySubGraphAdded(graph, subGraph));
+            for (Listener it : unionListeners()) {
+                it.notifySubGraphAdded(graph, subGraph);
+            }
         }
 
         @Override
         public void notifySuperGraphAdded(UnionGraph graph, UnionGraph superGraph) {
-            listeners(Listener.class).forEach(it -> it.notifySuperGraphAdded(graph, superGraph));
+            for (Listener it : unionListeners()) {
+                it.notifySuperGraphAdded(graph, superGraph);
+            }
         }
 
         @Override
         public void onRemoveSubGraph(UnionGraph graph, Graph subGraph) {
-            listeners(Listener.class).forEach(it -> it.onRemoveSubGraph(graph, subGraph));
+            for (Listener it : unionListeners()) {
+                it.onRemoveSubGraph(graph, subGraph);
+            }
         }
 
         @Override
         public void notifySubGraphRemoved(UnionGraph graph, Graph subGraph) {
-            listeners(Listener.class).forEach(it -> it.notifySubGraphRemoved(graph, subGraph));
+            for (Listener it : unionListeners()) {
+                it.notifySubGraphRemoved(graph, subGraph);
+            }
         }
 
         @Override
         public void off() {
             inactive.addAll(listeners);
             listeners.clear();
+            resetCache();
         }
 
         @Override
         public void on() {
             listeners.addAll(inactive);
             inactive.clear();
+            resetCache();
         }
 
         /**
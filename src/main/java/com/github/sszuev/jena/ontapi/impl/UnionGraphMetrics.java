@@ -0,0 +1,238 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+import com.github.sszuev.jena.ontapi.OntJenaException;
+import com.github.sszuev.jena.ontapi.utils.Graphs;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.util.iterator.NiceIterator;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects statistics of {@code find} and {@code contains} operations on the data graphs of a {@link UnionGraphImpl}.
+ * For each data graph it records the number of calls, the number of returned triples,
+ * and the time spent (including the time spent in iterating).
+ * The statistics can be exported to JMX, see {@link #registerMBean(String)}.
+ * This class is thread-safe.
+ */
+public class UnionGraphMetrics implements UnionGraphMetricsMBean {
+    private final Map<Graph, Statistics> statistics = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Performs the {@code find} operation on the given data graph and records the statistics.
+     *
+     * @param graph   {@link Graph}
+     * @param pattern {@link Triple}
+     * @return {@link ExtendedIterator} of {@link Triple}s
+     */
+    public ExtendedIterator<Triple> find(Graph graph, Triple pattern) {
+        Statistics res = statistics(graph);
+        res.findCalls.increment();
+        long start = System.nanoTime();
+        try {
+            return new MeasuringIterator(graph.find(pattern), res);
+        } finally {
+            res.nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Performs the {@code contains} operation on the given data graph and records the statistics.
+     *
+     * @param graph  {@link Graph}
+     * @param triple {@link Triple}
+     * @return boolean
+     */
+    public boolean contains(Graph graph, Triple triple) {
+        Statistics res = statistics(graph);
+        res.containsCalls.increment();
+        long start = System.nanoTime();
+        try {
+            return graph.contains(triple);
+        } finally {
+            res.nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns a copy of the statistics for each data graph.
+     *
+     * @return {@code Map} with {@link Graph}s as keys and {@link Statistics} as values
+     */
+    public Map<Graph, Statistics> getStatistics() {
+        synchronized (statistics) {
+            return new LinkedHashMap<>(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics for the given data graph.
+     *
+     * @param graph {@link Graph}
+     * @return {@link Statistics}, not {@code null}
+     */
+    public Statistics statistics(Graph graph) {
+        return statistics.computeIfAbsent(graph, it -> new Statistics());
+    }
+
+    /**
+     * Registers this instance in the platform {@link MBeanServer}.
+     *
+     * @param name {@code String} the name to distinguish the union graph, not {@code null}
+     * @return {@link ObjectName} of the registered bean
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName res = new ObjectName(UnionGraphMetrics.class.getPackageName() + ":type=UnionGraphMetrics,name=" +
+                    ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, res);
+            return res;
+        } catch (JMException ex) {
+            throw new OntJenaException.IllegalState("Can't register MBean " + name, ex);
+        }
+    }
+
+    /**
+     * Unregisters the MBean with the given name from the platform {@link MBeanServer}.
+     *
+     * @param name {@link ObjectName}, not {@code null}
+     */
+    public static void unregisterMBean(ObjectName name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException ex) {
+            throw new OntJenaException.IllegalState("Can't unregister MBean " + name, ex);
+        }
+    }
+
+    @Override
+    public long getFindCalls() {
+        return sum(it -> it.findCalls.sum());
+    }
+
+    @Override
+    public long getContainsCalls() {
+        return sum(it -> it.containsCalls.sum());
+    }
+
+    @Override
+    public long getTriples() {
+        return sum(it -> it.triples.sum());
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sum(it -> it.nanos.sum()));
+    }
+
+    @Override
+    public String[] getGraphStatistics() {
+        return getStatistics().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Graph, Statistics> it) -> it.getValue().getTimeNanos()).reversed())
+                .map(it -> graphName(it.getKey()) + ": " + it.getValue())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void reset() {
+        statistics.clear();
+    }
+
+    private long sum(ToLongFunction<Statistics> get) {
+        return getStatistics().values().stream().mapToLong(get).sum();
+    }
+
+    private static String graphName(Graph graph) {
+        return Graphs.findOntologyNameNode(graph).map(Node::toString).orElseGet(graph::toString);
+    }
+
+    /**
+     * Statistics for a single data graph.
+     */
+    public static class Statistics {
+        private final LongAdder findCalls = new LongAdder();
+        private final LongAdder containsCalls = new LongAdder();
+        private final LongAdder triples = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        public long getFindCalls() {
+            return findCalls.sum();
+        }
+
+        public long getContainsCalls() {
+            return containsCalls.sum();
+        }
+
+        public long getTriples() {
+            return triples.sum();
+        }
+
+        public long getTimeNanos() {
+            return nanos.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("find=%d, contains=%d, triples=%d, time=%dms",
+                    getFindCalls(), getContainsCalls(), getTriples(), TimeUnit.NANOSECONDS.toMillis(getTimeNanos()));
+        }
+    }
+
+    /**
+     * An iterator that counts returned triples and measures the time spent.
+     */
+    private static class MeasuringIterator extends NiceIterator<Triple> {
+        private final ExtendedIterator<Triple> base;
+        private final Statistics statistics;
+
+        MeasuringIterator(ExtendedIterator<Triple> base, Statistics statistics) {
+            this.base = base;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public boolean hasNext() {
+            long start = System.nanoTime();
+            try {
+                return base.hasNext();
+            } finally {
+                statistics.nanos.add(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public Triple next() {
+            long start = System.nanoTime();
+            try {
+                Triple res = base.next();
+                statistics.triples.increment();
+                return res;
+            } finally {
+                statistics.nanos.add(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void remove() {
+            base.remove();
+        }
+
+        @Override
+        public void close() {
+            base.close();
+        }
+    }
+}
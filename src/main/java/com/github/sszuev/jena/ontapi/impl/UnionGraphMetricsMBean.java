@@ -0,0 +1,47 @@
+package com.github.sszuev.jena.ontapi.impl;
+
+/**
+ * JMX management interface for {@link UnionGraphMetrics}.
+ */
+public interface UnionGraphMetricsMBean {
+
+    /**
+     * Returns the total number of {@code find} calls on all data graphs.
+     *
+     * @return long
+     */
+    long getFindCalls();
+
+    /**
+     * Returns the total number of {@code contains} calls on all data graphs.
+     *
+     * @return long
+     */
+    long getContainsCalls();
+
+    /**
+     * Returns the total number of triples returned by all data graphs.
+     *
+     * @return long
+     */
+    long getTriples();
+
+    /**
+     * Returns the total time spent in all data graphs, in milliseconds.
+     *
+     * @return long
+     */
+    long getTimeMillis();
+
+    /**
+     * Returns the statistics for each data graph, one line per graph, most time-consuming graphs first.
+     *
+     * @return array of {@code String}s
+     */
+    String[] getGraphStatistics();
+
+    /**
+     * Resets all counters.
+     */
+    void reset();
+}
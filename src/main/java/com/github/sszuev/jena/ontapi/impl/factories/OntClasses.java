@@ -733,42 +733,13 @@ final class OntClasses {
             ExtendedIterator<EnhNode> byOWLClass = null;
             if (filterDeclaredClassExpressions()) {
                 byOWLClass = eg.asGraph().find(ANY, RDF.Nodes.type, CLASS)
-                        .mapWith(t -> {
-                            Node n = t.getSubject();
-                            if (namedClassFilter != null && n.isURI()) {
-                                return namedClassFilter.test(n, eg) ? namedClassProducer.apply(n, eg) : null;
-                            }
-                            if (genericClassFilter != null) {
-                                return GENERIC_CLASS_PRODUCER.apply(n, eg);
-                            }
-                            BiFunction<Node, EnhGraph, EnhNode> res = null;
-                            if ((!n.isURI() || allowNamedClassExpressions) && filterLogicalExpressions()) {
-                                res = logicalExpressionFactory(n, eg);
-                            }
-                            if (res != null) {
-                                return res.apply(n, eg);
-                            }
-                            return null;
-                        })
+                        .mapWith(t -> fromClassDeclaration(t.getSubject(), eg))
                         .filterKeep(Objects::nonNull);
             }
             ExtendedIterator<EnhNode> byOWLRestriction = null;
             if (filterRestrictions()) {
                 byOWLRestriction = eg.asGraph().find(ANY, RDF.Nodes.type, RESTRICTION)
-                        .mapWith(t -> {
-                            Node n = t.getSubject();
-                            if (n.isURI() && !allowNamedClassExpressions) {
-                                return null;
-                            }
-                            if (genericClassFilter != null) {
-                                return GENERIC_RESTRICTION_PRODUCER.apply(n, eg);
-                            }
-                            BiFunction<Node, EnhGraph, EnhNode> res = restrictionFactory(n, eg);
-                            if (res != null) {
-                                return res.apply(n, eg);
-                            }
-                            return null;
-                        })
+                        .mapWith(t -> fromRestrictionDeclaration(t.getSubject(), eg))
                         .filterKeep(Objects::nonNull);
             }
             if (byOWLClass == null && byOWLRestriction == null) {
@@ -783,6 +754,54 @@ final class OntClasses {
             return byOWLClass;
         }
 
+        @Override
+        public Stream<EnhNode> parallelFind(EnhGraph eg) {
+            List<Node> classes = filterDeclaredClassExpressions() ? findDeclared(eg, CLASS) : List.of();
+            List<Node> restrictions = filterRestrictions() ? findDeclared(eg, RESTRICTION) : List.of();
+            // enhanced nodes are created in the calling thread, since the model caches are not thread-safe
+            return Stream.concat(
+                    classes.stream().map(n -> fromClassDeclaration(n, eg)),
+                    restrictions.stream().map(n -> fromRestrictionDeclaration(n, eg))
+            ).filter(Objects::nonNull).collect(Collectors.toList()).parallelStream();
+        }
+
+        private static List<Node> findDeclared(EnhGraph eg, Node type) {
+            return Graphs.parallelFind(eg.asGraph(), Triple.createMatch(ANY, RDF.Nodes.type, type))
+                    .map(Triple::getSubject)
+                    .collect(Collectors.toList());
+        }
+
+        private EnhNode fromClassDeclaration(Node n, EnhGraph eg) {
+            if (namedClassFilter != null && n.isURI()) {
+                return namedClassFilter.test(n, eg) ? namedClassProducer.apply(n, eg) : null;
+            }
+            if (genericClassFilter != null) {
+                return GENERIC_CLASS_PRODUCER.apply(n, eg);
+            }
+            BiFunction<Node, EnhGraph, EnhNode> res = null;
+            if ((!n.isURI() || allowNamedClassExpressions) && filterLogicalExpressions()) {
+                res = logicalExpressionFactory(n, eg);
+            }
+            if (res != null) {
+                return res.apply(n, eg);
+            }
+            return null;
+        }
+
+        private EnhNode fromRestrictionDeclaration(Node n, EnhGraph eg) {
+            if (n.isURI() && !allowNamedClassExpressions) {
+                return null;
+            }
+            if (genericClassFilter != null) {
+                return GENERIC_RESTRICTION_PRODUCER.apply(n, eg);
+            }
+            BiFunction<Node, EnhGraph, EnhNode> res = restrictionFactory(n, eg);
+            if (res != null) {
+                return res.apply(n, eg);
+            }
+            return null;
+        }
+
         @Override
         public EnhNode createInstance(Node node, EnhGraph eg) {
             BiFunction<Node, EnhGraph, EnhNode> f = map(node, eg);
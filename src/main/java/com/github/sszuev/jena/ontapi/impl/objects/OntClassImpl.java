@@ -5,8 +5,11 @@ import com.github.sszuev.jena.ontapi.OntModelControls;
 import com.github.sszuev.jena.ontapi.common.OntEnhGraph;
 import com.github.sszuev.jena.ontapi.common.OntEnhNodeFactories;
 import com.github.sszuev.jena.ontapi.common.OntPersonalities;
+import com.github.sszuev.jena.ontapi.impl.DomainIndex;
+import com.github.sszuev.jena.ontapi.impl.HierarchySession;
 import com.github.sszuev.jena.ontapi.impl.HierarchySupport;
 import com.github.sszuev.jena.ontapi.impl.OntGraphModelImpl;
+import com.github.sszuev.jena.ontapi.impl.OntModelIndexes;
 import com.github.sszuev.jena.ontapi.model.OntClass;
 import com.github.sszuev.jena.ontapi.model.OntDataProperty;
 import com.github.sszuev.jena.ontapi.model.OntDataRange;
@@ -26,7 +29,9 @@ import com.github.sszuev.jena.ontapi.vocabulary.RDF;
 import org.apache.jena.datatypes.RDFDatatype;
 import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.enhanced.EnhGraph;
+import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFList;
@@ -274,15 +279,89 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
         clazz.remove(OWL.equivalentClass, other);
     }
 
-    public static Stream<OntProperty> declaredProperties(OntClass clazz, boolean direct) {
-        OntModel m = clazz.getModel();
-        Stream<OntProperty> properties = OntPersonalities.isRDFS(OntEnhGraph.asPersonalityModel(m).getOntPersonality())
+    /**
+     * Lists all properties that can be declared properties of classes.
+     *
+     * @param m {@link OntModel}
+     * @return {@code Stream} of {@link OntProperty}s, may contain duplicates
+     */
+    public static Stream<OntProperty> declarableProperties(OntModel m) {
+        return OntPersonalities.isRDFS(OntEnhGraph.asPersonalityModel(m).getOntPersonality())
                 ? m.ontObjects(OntProperty.class)
                 : Stream.of(m.objectProperties(), m.dataProperties(), m.annotationProperties()).flatMap(it -> it);
+    }
+
+    public static Stream<OntProperty> declaredProperties(OntClass clazz, boolean direct) {
+        OntModel m = clazz.getModel();
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(m);
+        if (indexes != null) {
+            return Iterators.fromSet(() -> declaredProperties(clazz, direct, indexes.domainIndex()));
+        }
         Map<OntClass, Set<OntClass>> indirectSuperclasses = new HashMap<>();
         Function<OntClass, Set<OntClass>> getIndirectSuperclasses = it ->
                 indirectSuperclasses.computeIfAbsent(it, x -> x.superClasses(false).collect(Collectors.toSet()));
-        return properties.distinct().filter(p -> p != null && testDomain(clazz, p, direct, getIndirectSuperclasses));
+        return declarableProperties(m).distinct()
+                .filter(p -> p != null && testDomain(clazz, p, direct, getIndirectSuperclasses));
+    }
+
+    /**
+     * Finds declared properties using the inverse domain index:
+     * only properties that have the class or its superclass as domain, and global properties, are tested.
+     *
+     * @param clazz  {@link OntClass}
+     * @param direct {@code boolean}
+     * @param index  {@link DomainIndex}
+     * @return {@code Set} of {@link OntProperty}s
+     */
+    static Set<OntProperty> declaredProperties(OntClass clazz, boolean direct, DomainIndex index) {
+        Set<Node> classes = superClassesInclusive(clazz);
+        Set<OntProperty> candidates = direct ?
+                index.candidates(Set.of(clazz.asNode()), clazz.isHierarchyRoot()) :
+                index.candidates(classes, true);
+        Set<OntProperty> res = new HashSet<>();
+        candidates.forEach(p -> {
+            if (testDomain(clazz, p, direct, index, classes)) {
+                res.add(p);
+            }
+        });
+        return res;
+    }
+
+    private static boolean testDomain(OntClass clazz,
+                                      OntProperty property,
+                                      boolean direct,
+                                      DomainIndex index,
+                                      Set<Node> superClassesInclusive) {
+        Set<Node> domains = index.domains(property);
+        if (domains == null || !superClassesInclusive.containsAll(domains)) {
+            return false;
+        }
+        if (!direct) {
+            return true;
+        }
+        return domains.isEmpty() ? clazz.isHierarchyRoot() : domains.contains(clazz.asNode());
+    }
+
+    /**
+     * Returns the given class and all its superclasses, the same as {@link #canProveSuperClass(OntClass, Resource, Function)}
+     * would find.
+     *
+     * @param clazz {@link OntClass}
+     * @return {@code Set} of {@link Node}s
+     */
+    private static Set<Node> superClassesInclusive(OntClass clazz) {
+        Set<Node> res = new HashSet<>();
+        res.add(clazz.asNode());
+        if (OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)) {
+            // the builtin closure is transitive
+            try (Stream<OntClass> supers = clazz.superClasses(false)) {
+                supers.forEach(it -> res.add(it.asNode()));
+            }
+            return res;
+        }
+        HierarchySupport.allTreeNodesSetInclusive(() -> Stream.of(clazz), it -> it.superClasses(false))
+                .forEach(it -> res.add(it.asNode()));
+        return res;
     }
 
     /**
@@ -294,6 +373,10 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
      * @return {@code boolean}
      */
     public static boolean testDomain(OntClass clazz, OntProperty property, boolean direct) {
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(clazz.getModel());
+        if (indexes != null && indexes.domainIndex().domains(property) != null) {
+            return testDomain(clazz, property, direct, indexes.domainIndex(), superClassesInclusive(clazz));
+        }
         return testDomain(clazz, property, direct, x -> x.superClasses(false).collect(Collectors.toSet()));
     }
 
@@ -387,6 +470,10 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
             return false;
         }
         OntClass other = candidate.as(OntClass.class);
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(clazz.getModel());
+        if (indexes != null) {
+            return indexes.disjointIndex().isDisjoint(clazz.asNode(), other.asNode());
+        }
         try (Stream<OntClass> disjoints = other.disjointClasses()) {
             if (disjoints.anyMatch(clazz::equals)) {
                 return true;
@@ -405,17 +492,87 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
         }
     }
 
+    /**
+     * Answers {@code true} if the classes are different and there is
+     * the statement {@code clazz owl:disjointWith other} or {@code other owl:disjointWith clazz}.
+     *
+     * @param clazz {@link OntClass} or {@code null}
+     * @param other {@link OntClass} or {@code null}
+     * @return boolean
+     */
+    public static boolean isDisjointWith(OntClass clazz, OntClass other) {
+        if (clazz == null || other == null || clazz.equals(other)) {
+            return false;
+        }
+        if (!OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_OWL_CLASS_DISJOINT_WITH_FEATURE)) {
+            return false;
+        }
+        if (clazz.asDisjointClass() == null || other.asDisjointClass() == null) {
+            return false;
+        }
+        return clazz.hasProperty(OWL.disjointWith, other) || other.hasProperty(OWL.disjointWith, clazz);
+    }
+
+    /**
+     * Lists all {@code owl:disjointWith} statements between different classes, which can be disjoint.
+     *
+     * @param m {@link OntModel}
+     * @return {@code Stream} of {@link OntStatement}s
+     */
+    public static Stream<OntStatement> disjointWithPairs(OntModel m) {
+        if (!OntGraphModelImpl.configValue(m, OntModelControls.USE_OWL_CLASS_DISJOINT_WITH_FEATURE)) {
+            return Stream.empty();
+        }
+        return m.statements(null, OWL.disjointWith, null)
+                .filter(it -> it.getObject().canAs(OntClass.class) && it.getSubject().canAs(OntClass.class))
+                .filter(it -> isDisjointWith(it.getSubject(OntClass.class), it.getObject(OntClass.class)));
+    }
+
+    /**
+     * Lists all groups of pairwise disjoint classes, i.e. members of {@code owl:AllDisjointClasses}.
+     *
+     * @param m {@link OntModel}
+     * @return {@code Stream} of {@code Set}s of class {@link Node}s
+     */
+    public static Stream<Set<Node>> disjointGroups(OntModel m) {
+        return m.ontObjects(OntDisjoint.Classes.class)
+                .map(it -> it.members().map(RDFNode::asNode).collect(Collectors.toSet()));
+    }
+
     static Stream<OntIndividual> individuals(OntClass clazz, boolean direct) {
         if (clazz.asAssertionClass() == null) {
             return Stream.empty();
         }
         if (OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)) {
-            // TODO: optimize
-            return clazz.getModel().individuals().filter(i -> i.hasOntClass(clazz, direct));
+            Stream<OntIndividual> res = assertedMembers(clazz);
+            return direct ? res.filter(i -> i.hasOntClass(clazz, true)) : res;
         }
         return subjects(RDF.type, clazz, OntIndividual.class).filter(i -> i.hasOntClass(clazz, direct));
     }
 
+    /**
+     * Lists all individuals that have the given class in their (builtin) class closure:
+     * the union of asserted members ({@code ?i rdf:type C}) over the sub-tree of the class,
+     * where the sub-tree is the reverse of the closure used by {@link OntIndividual#classes(boolean)}.
+     * Members are looked up through the graph's {@code (?, rdf:type, C)} index,
+     * so the ABox is never scanned as a whole.
+     * Any direct class of an individual is in the closure, so direct members are a subset of the result.
+     *
+     * @param clazz {@link OntClass}, assertion class
+     * @return distinct {@code Stream} of {@link OntIndividual}s
+     */
+    static Stream<OntIndividual> assertedMembers(OntClass clazz) {
+        HierarchySession session = OntGraphModelImpl.hierarchySession(clazz.getModel());
+        Function<OntClass, Set<OntClass>> subClasses = it -> HierarchySupport.allTreeNodesSetInclusive(
+                () -> Stream.of(it),
+                OntIndividualImpl::listSubClassesFor
+        );
+        return Iterators.fromSet(() -> session != null ? session.subClasses(clazz, subClasses) : subClasses.apply(clazz))
+                .filter(it -> it.asAssertionClass() != null)
+                .flatMap(it -> subjects(RDF.type, it, OntIndividual.class))
+                .distinct();
+    }
+
     public static Stream<OntClass> subClasses(OntClass clazz, boolean direct) {
         if (direct) {
             Property reasonerProperty = reasonerProperty(clazz.getModel(), RDFS.subClassOf);
@@ -423,11 +580,20 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
                 return explicitSubClasses(reasonerProperty, clazz).filter(x -> !clazz.equals(x));
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(clazz.getModel());
+        if (indexes != null) {
+            return indexes.classHierarchy().subs().treeNodes(clazz, direct, useBuiltinHierarchySupport);
+        }
+        Graph graph = clazz.getModel().getGraph();
         return HierarchySupport.treeNodes(
                 clazz,
                 it -> explicitSubClasses(RDFS.subClassOf, it),
+                it -> Iterators.asStream(graph.find(Node.ANY, RDFS.Nodes.subClassOf, it).mapWith(Triple::getSubject)),
+                it -> asClass(clazz, it, OntClass::asSubClass),
                 direct,
-                OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
     }
 
@@ -438,14 +604,28 @@ public abstract class OntClassImpl extends OntObjectImpl implements OntClass {
                 return explicitSuperClasses(reasonerProperty, clazz).filter(x -> !clazz.equals(x));
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(clazz.getModel());
+        if (indexes != null) {
+            return indexes.classHierarchy().supers().treeNodes(clazz, direct, useBuiltinHierarchySupport);
+        }
+        Graph graph = clazz.getModel().getGraph();
         return HierarchySupport.treeNodes(
                 clazz,
                 it -> explicitSuperClasses(RDFS.subClassOf, it),
+                it -> Iterators.asStream(graph.find(it, RDFS.Nodes.subClassOf, Node.ANY).mapWith(Triple::getObject)),
+                it -> asClass(clazz, it, OntClass::asSuperClass),
                 direct,
-                OntGraphModelImpl.configValue(clazz.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
     }
 
+    private static OntClass asClass(OntClass clazz, Node node, Function<OntClass, OntClass> role) {
+        OntClass res = ((OntGraphModelImpl) clazz.getModel()).findNodeAs(node, OntClass.class);
+        return res == null ? null : role.apply(res);
+    }
+
     static Stream<OntClass> explicitSuperClasses(Property predicate, OntObject clazz) {
         return clazz.objects(predicate, OntClass.class).map(OntClass::asSuperClass).filter(Objects::nonNull);
     }
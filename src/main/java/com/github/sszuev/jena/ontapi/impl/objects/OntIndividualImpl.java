@@ -2,8 +2,11 @@ package com.github.sszuev.jena.ontapi.impl.objects;
 
 import com.github.sszuev.jena.ontapi.OntJenaException;
 import com.github.sszuev.jena.ontapi.OntModelControls;
+import com.github.sszuev.jena.ontapi.impl.HierarchyIndex;
+import com.github.sszuev.jena.ontapi.impl.HierarchySession;
 import com.github.sszuev.jena.ontapi.impl.HierarchySupport;
 import com.github.sszuev.jena.ontapi.impl.OntGraphModelImpl;
+import com.github.sszuev.jena.ontapi.impl.OntModelIndexes;
 import com.github.sszuev.jena.ontapi.model.OntClass;
 import com.github.sszuev.jena.ontapi.model.OntIndividual;
 import com.github.sszuev.jena.ontapi.model.OntNegativeAssertion;
@@ -20,6 +23,7 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.RDFS;
 
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -67,13 +71,32 @@ public abstract class OntIndividualImpl extends OntObjectImpl implements OntIndi
                 return getModel().contains(this, reasonerProperty, clazz);
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        HierarchySession session = OntGraphModelImpl.hierarchySession(getModel());
+        if (!direct && useBuiltinHierarchySupport && session != null) {
+            if (equals(clazz)) {
+                return false;
+            }
+            try (Stream<OntClass> classes = listClassesFor(this, new AtomicBoolean(true))) {
+                return classes.anyMatch(it -> it.equals(clazz) || superClassesInclusive(it, session).contains(clazz));
+            }
+        }
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(getModel());
+        if (!direct && useBuiltinHierarchySupport && indexes != null) {
+            HierarchyIndex<OntClass>.Tree superClasses = indexes.classHierarchy().supers();
+            try (Stream<OntClass> classes = listClassesFor(this, new AtomicBoolean(true))) {
+                return classes.anyMatch(it -> it.equals(clazz) || superClasses.reaches(it, clazz));
+            }
+        }
         AtomicBoolean isIndividual = new AtomicBoolean(true);
         return HierarchySupport.contains(
                 this,
                 (OntObject) clazz,
                 it -> (Stream<OntObject>) ((Stream<?>) listClassesFor(it, isIndividual)),
+                it -> (Stream<OntObject>) ((Stream<?>) listSubClassesFor(it)),
                 direct,
-                OntGraphModelImpl.configValue(getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
     }
 
@@ -136,15 +159,43 @@ public abstract class OntIndividualImpl extends OntObjectImpl implements OntIndi
                 return individual.objects(reasonerProperty, OntClass.class).map(OntClass::asAssertionClass).filter(Objects::nonNull);
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(individual.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        HierarchySession session = OntGraphModelImpl.hierarchySession(individual.getModel());
+        if (!direct && useBuiltinHierarchySupport && session != null) {
+            return Iterators.fromSet(() -> {
+                Set<OntClass> res = new HashSet<>();
+                try (Stream<OntClass> classes = listClassesFor(individual, new AtomicBoolean(true))) {
+                    classes.forEach(it -> res.addAll(superClassesInclusive(it, session)));
+                }
+                res.remove(individual);
+                return res;
+            });
+        }
         AtomicBoolean isIndividual = new AtomicBoolean(true);
         Stream<?> res = HierarchySupport.treeNodes(individual,
                 it -> (Stream<OntObject>) ((Stream<?>) listClassesFor(it, isIndividual)),
                 direct,
-                OntGraphModelImpl.configValue(individual.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
         return (Stream<OntClass>) res;
     }
 
+    /**
+     * Returns the memoized closure of the given class over {@code rdfs:subClassOf}, including the class itself,
+     * i.e. the same classes that {@link #classes(OntObject, boolean)} collects for the class.
+     *
+     * @param clazz   {@link OntClass}
+     * @param session {@link HierarchySession}
+     * @return unmodifiable {@code Set} of {@link OntClass}es
+     */
+    static Set<OntClass> superClassesInclusive(OntClass clazz, HierarchySession session) {
+        return session.superClasses(clazz, it -> HierarchySupport.allTreeNodesSetInclusive(
+                () -> Stream.of(it),
+                x -> OntClassImpl.explicitSuperClasses(RDFS.subClassOf, x)
+        ));
+    }
+
     static Stream<OntClass> listClassesFor(OntObject resource, AtomicBoolean isFirstLevel) {
         if (isFirstLevel.get()) {
             isFirstLevel.set(false);
@@ -153,6 +204,20 @@ public abstract class OntIndividualImpl extends OntObjectImpl implements OntIndi
         return OntClassImpl.explicitSuperClasses(RDFS.subClassOf, resource);
     }
 
+    /**
+     * Lists the classes for which the given class is returned by {@link #listClassesFor(OntObject, AtomicBoolean)},
+     * i.e. the reverse function (individuals are not included).
+     *
+     * @param resource {@link OntObject}
+     * @return {@code Stream} of {@link OntClass}es
+     */
+    static Stream<OntClass> listSubClassesFor(OntObject resource) {
+        if (!(resource instanceof OntClass) || ((OntClass) resource).asSuperClass() == null) {
+            return Stream.empty();
+        }
+        return subjects(RDFS.subClassOf, resource, OntClass.class);
+    }
+
     @Override
     public boolean isLocal() {
         Optional<OntStatement> root = findRootStatement();
@@ -4,7 +4,9 @@ import com.github.sszuev.jena.ontapi.OntJenaException;
 import com.github.sszuev.jena.ontapi.OntModelControls;
 import com.github.sszuev.jena.ontapi.impl.HierarchySupport;
 import com.github.sszuev.jena.ontapi.impl.OntGraphModelImpl;
+import com.github.sszuev.jena.ontapi.impl.OntModelIndexes;
 import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntModel;
 import com.github.sszuev.jena.ontapi.model.OntProperty;
 import com.github.sszuev.jena.ontapi.model.OntRelationalProperty;
 import com.github.sszuev.jena.ontapi.model.OntStatement;
@@ -12,10 +14,17 @@ import com.github.sszuev.jena.ontapi.vocabulary.OWL;
 import org.apache.jena.enhanced.EnhGraph;
 import org.apache.jena.graph.Node;
 import org.apache.jena.rdf.model.Property;
+import org.apache.jena.reasoner.InfGraph;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDFS;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -46,6 +55,85 @@ public abstract class OntPropertyImpl extends OntObjectImpl implements OntProper
         return domains.stream().filter(clazz -> clazz.hasDeclaredProperty(property, direct));
     }
 
+    /**
+     * Computes declaring classes for all properties of the model in one sweep.
+     * Subclass trees of domains are computed once and shared among all properties with the same domains;
+     * global properties (i.e. without class domains) share the same set of all classes (or hierarchy roots).
+     * For an inference model, the method falls back to {@link #declaringClasses(OntProperty, boolean)} for each property.
+     *
+     * @param model  {@link OntModel}
+     * @param direct {@code boolean}
+     * @return unmodifiable {@code Map} with unmodifiable {@code Set}s as values
+     * @see OntModel#declaringClasses(boolean)
+     */
+    public static Map<OntProperty, Set<OntClass>> declaringClasses(OntModel model, boolean direct) {
+        List<OntProperty> properties;
+        try (Stream<OntProperty> stream = OntClassImpl.declarableProperties(model)) {
+            properties = stream.distinct().collect(Collectors.toList());
+        }
+        Map<OntProperty, Set<OntClass>> res = new HashMap<>();
+        if (model.getGraph() instanceof InfGraph) {
+            properties.forEach(p -> res.put(p, declaringClasses(p, direct).collect(Collectors.toUnmodifiableSet())));
+            return Collections.unmodifiableMap(res);
+        }
+        Set<OntClass> globals;
+        try (Stream<OntClass> classes = direct ? model.hierarchyRoots() :
+                model.ontObjects(OntClass.class).filter(it -> !isReservedOrBuiltin(it))) {
+            globals = classes.collect(Collectors.toUnmodifiableSet());
+        }
+        Map<Node, Set<OntClass>> subClasses = new HashMap<>();
+        properties.forEach(property -> {
+            Set<Resource> domains;
+            try (Stream<? extends Resource> stream = property.domains()) {
+                domains = stream.filter(it -> !OWL.Thing.equals(it) && !RDFS.Resource.equals(it))
+                        .collect(Collectors.toSet());
+            }
+            Set<OntClass> classDomains = domains.stream()
+                    .filter(it -> it.canAs(OntClass.class))
+                    .map(it -> it.as(OntClass.class))
+                    .filter(it -> !isReservedOrBuiltin(it))
+                    .collect(Collectors.toSet());
+            if (classDomains.isEmpty()) {
+                res.put(property, globals);
+                return;
+            }
+            if (isReservedOrBuiltin(property)) {
+                res.put(property, Set.of());
+                return;
+            }
+            // a class is declaring if it is a subclass of each domain
+            Set<OntClass> found = null;
+            for (Resource domain : domains) {
+                Set<OntClass> subs = subClasses.computeIfAbsent(domain.asNode(), it -> subClassesInclusive(domain));
+                if (found == null) {
+                    found = new HashSet<>(subs);
+                } else {
+                    found.retainAll(subs);
+                }
+                if (found.isEmpty()) {
+                    break;
+                }
+            }
+            if (direct) {
+                found.retainAll(classDomains);
+            }
+            res.put(property, Collections.unmodifiableSet(found));
+        });
+        return Collections.unmodifiableMap(res);
+    }
+
+    private static Set<OntClass> subClassesInclusive(Resource domain) {
+        if (!domain.canAs(OntClass.class)) {
+            return Set.of();
+        }
+        Set<OntClass> res = HierarchySupport.allTreeNodesSetInclusive(
+                () -> Stream.of(domain.as(OntClass.class)),
+                clazz -> OntClassImpl.explicitSubClasses(clazz).filter(it -> !isReservedOrBuiltin(it))
+        );
+        res.removeIf(OntObjectImpl::isReservedOrBuiltin);
+        return res;
+    }
+
     public static <X extends OntProperty> Stream<X> subProperties(X property, Class<X> type, boolean direct) {
         if (direct) {
             Property reasonerProperty = reasonerProperty(property.getModel(), RDFS.subPropertyOf);
@@ -53,11 +141,17 @@ public abstract class OntPropertyImpl extends OntObjectImpl implements OntProper
                 return explicitSubProperties(property, reasonerProperty, type).filter(x -> !property.equals(x));
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(property.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(property.getModel());
+        if (indexes != null) {
+            return indexes.propertyHierarchy(type).subs().treeNodes(property, direct, useBuiltinHierarchySupport);
+        }
         return HierarchySupport.treeNodes(
                 property,
                 it -> explicitSubProperties(it, RDFS.subPropertyOf, type),
                 direct,
-                OntGraphModelImpl.configValue(property.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
     }
 
@@ -68,11 +162,17 @@ public abstract class OntPropertyImpl extends OntObjectImpl implements OntProper
                 return explicitSuperProperties(property, reasonerProperty, type).filter(x -> !property.equals(x));
             }
         }
+        boolean useBuiltinHierarchySupport =
+                OntGraphModelImpl.configValue(property.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT);
+        OntModelIndexes indexes = OntGraphModelImpl.indexes(property.getModel());
+        if (indexes != null) {
+            return indexes.propertyHierarchy(type).supers().treeNodes(property, direct, useBuiltinHierarchySupport);
+        }
         return HierarchySupport.treeNodes(
                 property,
                 it -> explicitSuperProperties(it, RDFS.subPropertyOf, type),
                 direct,
-                OntGraphModelImpl.configValue(property.getModel(), OntModelControls.USE_BUILTIN_HIERARCHY_SUPPORT)
+                useBuiltinHierarchySupport
         );
     }
 
@@ -60,6 +60,26 @@ public class OntUnionGraphListener extends GraphListenerBase implements UnionGra
         listeners(UnionGraph.Listener.class).forEach(it -> it.onDeleteTriple(graph, triple));
     }
 
+    @Override
+    public void onAddTriples(UnionGraph graph, List<Triple> triples) {
+        triples.forEach(triple -> {
+            if (isNameTriple(triple) && !graph.getBaseGraph().contains(triple)) {
+                OntUnionGraphRepository.checkIDCanBeChanged(graph);
+            }
+        });
+        listeners(UnionGraph.Listener.class).forEach(it -> it.onAddTriples(graph, triples));
+    }
+
+    @Override
+    public void onDeleteTriples(UnionGraph graph, List<Triple> triples) {
+        triples.forEach(triple -> {
+            if (isNameTriple(triple) && graph.getBaseGraph().contains(triple)) {
+                OntUnionGraphRepository.checkIDCanBeChanged(graph);
+            }
+        });
+        listeners(UnionGraph.Listener.class).forEach(it -> it.onDeleteTriples(graph, triples));
+    }
+
     @Override
     public void onAddSubGraph(UnionGraph graph, Graph subGraph) {
         if (Graphs.isOntGraph(Graphs.getPrimary(subGraph))) {
@@ -260,6 +260,8 @@ public interface OntClass extends OntObject, AsNamed<OntClass.Named>, HasDisjoin
 
     /**
      * Answers {@code true} if this class is disjoint with the given class.
+     * This includes {@code owl:disjointWith} statements (in any direction),
+     * {@code owl:AllDisjointClasses} constructs and {@code owl:disjointUnionOf} lists, which contain both classes.
      *
      * @param candidate {@link Resource} a class to test
      * @return {@code true} if this class is disjoint with the given class
@@ -0,0 +1,55 @@
+package com.github.sszuev.jena.ontapi.model;
+
+import java.util.Set;
+
+/**
+ * An immutable snapshot of a resource hierarchy (e.g. class hierarchy) with direct (transitively reduced) relations.
+ * Nodes that are mutually reachable (e.g. classes connected by a cycle of {@code rdfs:subClassOf}) are equivalent,
+ * equivalent nodes are never direct subs or supers of each other.
+ * The snapshot is not updated when the model changes.
+ *
+ * @param <X> subtype of {@link OntObject}
+ * @see OntModel#classHierarchy()
+ */
+public interface OntHierarchy<X extends OntObject> {
+
+    /**
+     * Lists all nodes of the hierarchy.
+     *
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    Set<X> nodes();
+
+    /**
+     * Lists nodes that have no direct supers.
+     *
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    Set<X> roots();
+
+    /**
+     * Lists the direct subs of the given node (e.g. direct subclasses).
+     * If the given node does not belong to the hierarchy, an empty set is returned.
+     *
+     * @param node {@link X}
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    Set<X> directSubs(X node);
+
+    /**
+     * Lists the direct supers of the given node (e.g. direct superclasses).
+     * If the given node does not belong to the hierarchy, an empty set is returned.
+     *
+     * @param node {@link X}
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    Set<X> directSupers(X node);
+
+    /**
+     * Lists the nodes that are equivalent to the given node, the node itself is not included.
+     *
+     * @param node {@link X}
+     * @return unmodifiable {@code Set} of {@link X}
+     */
+    Set<X> equivalents(X node);
+}
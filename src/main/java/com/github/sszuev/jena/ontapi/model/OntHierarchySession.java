@@ -0,0 +1,28 @@
+package com.github.sszuev.jena.ontapi.model;
+
+/**
+ * A scope in which class hierarchy closures are memoized.
+ * While a session is open, the superclass and subclass closures computed by
+ * {@link OntIndividual#classes(boolean) OntIndividual#classes(false)},
+ * {@link OntIndividual#hasOntClass(OntClass, boolean) OntIndividual#hasOntClass(clazz, false)} and
+ * {@link OntClass#individuals(boolean)} are shared by all calls, so batch processing of many individuals
+ * with the same types computes the closure of each class only once.
+ * The memo is used only with builtin hierarchy support.
+ * <p>
+ * Sessions can be nested: the memo is kept while at least one session is open.
+ * Changes made through the model clear the memo;
+ * changes made directly to the underlying graphs (bypassing the model) are not tracked,
+ * so the data should not be modified in that way while a session is open.
+ *
+ * @see OntModel#hierarchySession()
+ */
+public interface OntHierarchySession extends AutoCloseable {
+
+    /**
+     * Closes this session.
+     * When the last open session of the model is closed, the memo is discarded.
+     * Calling this method more than once has no effect.
+     */
+    @Override
+    void close();
+}
@@ -19,8 +19,10 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDFS;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -175,6 +177,22 @@ public interface OntModel extends Model,
      */
     <O extends OntObject> Stream<O> ontObjects(Class<? extends O> type);
 
+    /**
+     * Lists all ont-objects of the specified type in the form of a parallel {@code Stream}.
+     * The result is the same as for {@link #ontObjects(Class)},
+     * but candidate nodes are tested and wrapped in parallel;
+     * for types that are found by {@code rdf:type} declarations the candidates themselves are also split
+     * (by data graphs and, if the graph allows, inside each graph).
+     * The order of objects is not specified.
+     * The model must not be modified while the stream is being processed.
+     *
+     * @param type {@link Class} the concrete type of {@link OntObject}, not {@code null}
+     * @param <O>  any ont-object subtype
+     * @return parallel {@code Stream} of {@link OntObject}s of the type {@link O}
+     * @see #ontObjects(Class)
+     */
+    <O extends OntObject> Stream<O> parallelOntObjects(Class<? extends O> type);
+
     /**
      * Lists all entities declared in the model.
      * Built-ins are not included.
@@ -212,6 +230,19 @@ public interface OntModel extends Model,
      */
     Stream<OntIndividual> individuals();
 
+    /**
+     * Lists all class-asserted individuals in the form of a parallel {@code Stream}.
+     * The result is the same as for {@link #individuals()},
+     * but the class assertions are split into parts (by data graphs and, if the graph allows, inside each graph),
+     * which are tested and wrapped in parallel without any shared state.
+     * The order of individuals is not specified.
+     * The model must not be modified while the stream is being processed.
+     *
+     * @return parallel {@code Stream} of {@link OntIndividual}s
+     * @see #individuals()
+     */
+    Stream<OntIndividual> parallelIndividuals();
+
     /**
      * Returns an ont-entity for the specified type and uri.
      * This method can also be used to wrap builtin entities, which, in fact, do not belong to the RDF graph,
@@ -560,6 +591,50 @@ public interface OntModel extends Model,
                 .filter(OntClass::isHierarchyRoot);
     }
 
+    /**
+     * Computes the direct (transitively reduced) class hierarchy for all classes of the model at once.
+     * Classes connected by a cycle of {@code rdfs:subClassOf} are equivalent
+     * and share the same direct subclasses and superclasses.
+     * For a model without a reasoner the result corresponds to
+     * {@link OntClass#subClasses(boolean) subClasses(true)} and {@link OntClass#superClasses(boolean) superClasses(true)}
+     * computed with builtin hierarchy support,
+     * but it is much cheaper than calling these methods for each class.
+     * The returned object is an immutable snapshot, it does not reflect further changes of the model.
+     *
+     * @return {@link OntHierarchy} of {@link OntClass}es
+     */
+    OntHierarchy<OntClass> classHierarchy();
+
+    /**
+     * Computes the relation between properties and their declaring classes for the whole model at once.
+     * For each property the result corresponds to {@link OntProperty#declaringClasses(boolean)},
+     * but the domains and the class hierarchy are traversed only once for all properties,
+     * which is much cheaper than calling the method for each property.
+     * The map contains all properties that can be declared properties of classes,
+     * including those without declaring classes (with empty sets as values).
+     * The returned map is an immutable snapshot, it does not reflect further changes of the model.
+     *
+     * @param direct {@code boolean} if {@code true}, use only <em>direct</em> associations between classes and properties
+     * @return unmodifiable {@code Map} with {@link OntProperty}s as keys and unmodifiable {@code Set}s of {@link OntClass}es as values
+     * @see OntProperty#declaringClasses(boolean)
+     * @see OntClass#declaredProperties(boolean)
+     */
+    Map<OntProperty, Set<OntClass>> declaringClasses(boolean direct);
+
+    /**
+     * Opens a scope in which class hierarchy closures are memoized and shared by all calls, for example:
+     * <pre>{@code
+     * try (OntHierarchySession s = model.hierarchySession()) {
+     *     model.individuals().forEach(i -> process(i, i.classes(false)));
+     * }
+     * }</pre>
+     * This speeds up batch processing of many individuals, which share the same types.
+     *
+     * @return {@link OntHierarchySession} which must be closed
+     * @see OntHierarchySession
+     */
+    OntHierarchySession hierarchySession();
+
     /**
      * Lists all OntProperties.
      * The result includes not only OWL properties
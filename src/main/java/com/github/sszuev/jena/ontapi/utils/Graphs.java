@@ -271,11 +271,29 @@ public class Graphs {
         return false;
     }
 
+    /**
+     * Lists all triples matching the pattern in the form of a parallel {@code Stream}.
+     * For a {@link UnionGraph}, the graph's {@link UnionGraph#parallelFind(Triple)} is used,
+     * otherwise the graph's own {@link Graph#stream(Node, Node, Node)}.
+     * The graph must not be modified while the stream is being processed.
+     *
+     * @param graph {@link Graph}, not {@code null}
+     * @param m     {@link Triple} pattern, not {@code null}
+     * @return parallel {@code Stream} of {@link Triple}s
+     */
+    public static Stream<Triple> parallelFind(Graph graph, Triple m) {
+        if (graph instanceof UnionGraph) {
+            return ((UnionGraph) graph).parallelFind(m);
+        }
+        return graph.stream(m.getSubject(), m.getPredicate(), m.getObject()).parallel();
+    }
+
     /**
      * Answers {@code true} iff the given {@code graph} has known size
      * and therefore the operation {@code graph.size()} does not take significant efforts.
      * Composite graphs are considered as sized only if they relay on a single base graph,
-     * since their sizes are not always a sum of part size.
+     * since their sizes are not always a sum of part size,
+     * or if they maintain their size (see {@link UnionGraph#isSized()}).
      *
      * @param graph {@link Graph} to test
      * @return {@code boolean} if {@code graph} is sized
@@ -286,6 +304,9 @@ public class Graphs {
         if (isGraphMem(graph)) {
             return true;
         }
+        if (graph instanceof UnionGraph && ((UnionGraph) graph).isSized()) {
+            return true;
+        }
         if (directSubGraphs(graph).findFirst().isPresent()) {
             return false;
         }
@@ -300,7 +321,7 @@ public class Graphs {
      * @see Graphs#isSized(Graph)
      */
     public static long size(Graph graph) {
-        if (isGraphMem(graph)) {
+        if (isGraphMem(graph) || graph instanceof UnionGraph && ((UnionGraph) graph).isSized()) {
             return graph.size();
         }
         if (directSubGraphs(graph).findFirst().isPresent()) {
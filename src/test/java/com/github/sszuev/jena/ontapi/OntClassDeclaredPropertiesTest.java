@@ -28,6 +28,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -82,6 +83,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -144,6 +146,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -179,6 +182,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -238,6 +242,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -293,6 +298,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -331,6 +337,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -372,6 +379,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -443,6 +451,7 @@ public class OntClassDeclaredPropertiesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,6 +32,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -56,6 +59,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -136,6 +140,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -250,6 +255,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -322,6 +328,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -410,6 +417,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -590,6 +598,7 @@ public class OntClassIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "RDFS_MEM_RDFS_INF",
@@ -707,4 +716,45 @@ public class OntClassIndividualsTest {
         Assertions.assertEquals(Set.of(), indirectD);
         Assertions.assertEquals(Set.of("iCE"), indirectE);
     }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testListIndividualsMatchesClassAssertions(TestSpec spec) {
+        //       A
+        //      / \
+        //     B   C
+        //    / \ / \
+        //   D   E = F
+        //   |
+        //   G
+        OntModel m = OntModelFactory.createModel(spec.inst);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B").addSuperClass(a);
+        OntClass c = m.createOntClass(NS + "C").addSuperClass(a);
+        OntClass d = m.createOntClass(NS + "D").addSuperClass(b);
+        OntClass e = m.createOntClass(NS + "E").addSuperClass(b).addSuperClass(c);
+        OntClass f = m.createOntClass(NS + "F").addSuperClass(c).addSuperClass(e);
+        e.addSuperClass(f);
+        OntClass g = m.createOntClass(NS + "G").addSuperClass(d);
+        a.createIndividual(NS + "iA");
+        b.createIndividual(NS + "iB").attachClass(c);
+        d.createIndividual(NS + "iD");
+        e.createIndividual(NS + "iE");
+        f.createIndividual(NS + "iF").attachClass(a);
+        g.createIndividual(NS + "iG").attachClass(e);
+
+        for (OntClass clazz : List.of(a, b, c, d, e, f, g)) {
+            for (boolean direct : new boolean[]{true, false}) {
+                Set<OntIndividual> expected = m.individuals()
+                        .filter(i -> i.hasOntClass(clazz, direct))
+                        .collect(Collectors.toSet());
+                List<OntIndividual> actual = clazz.individuals(direct).collect(Collectors.toList());
+                Assertions.assertEquals(expected.size(), actual.size(), clazz + ", direct = " + direct);
+                Assertions.assertEquals(expected, new HashSet<>(actual), clazz + ", direct = " + direct);
+            }
+        }
+    }
 }
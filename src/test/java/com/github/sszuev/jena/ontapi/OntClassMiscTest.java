@@ -10,6 +10,8 @@ import org.apache.jena.rdf.model.RDFList;
 import org.apache.jena.rdf.model.RDFNode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -198,4 +200,28 @@ public class OntClassMiscTest {
         Assertions.assertFalse(c1.isDisjoint(p));
     }
 
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+            "OWL2_MEM",
+    })
+    public void testIsDisjointIgnoresDisjointUnion(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst).setNsPrefixes(OntModelFactory.STANDARD);
+        OntClass.Named c0 = m.createOntClass(":C0");
+        OntClass c1 = m.createOntClass(":C1");
+        OntClass c2 = m.createOntClass(":C2");
+        OntClass c3 = m.createOntClass(":C3");
+        OntClass c4 = m.createOntClass(":C4");
+        c0.addDisjointUnionOfStatement(c1, c2, c3);
+        m.createDisjointClasses(c3, c4);
+
+        Assertions.assertFalse(c1.isDisjoint(c2));
+        Assertions.assertFalse(c3.isDisjoint(c1));
+        Assertions.assertTrue(c3.isDisjoint(c4));
+        Assertions.assertFalse(c0.isDisjoint(c1));
+        Assertions.assertFalse(c1.isDisjoint(c4));
+        Assertions.assertFalse(c2.isDisjoint(c4));
+    }
+
 }
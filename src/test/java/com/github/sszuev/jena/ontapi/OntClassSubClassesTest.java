@@ -1,15 +1,21 @@
 package com.github.sszuev.jena.ontapi;
 
+import com.github.sszuev.jena.ontapi.common.OntObjectPersonalityBuilder;
 import com.github.sszuev.jena.ontapi.model.OntClass;
 import com.github.sszuev.jena.ontapi.model.OntModel;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.OWL2;
 import org.apache.jena.vocabulary.RDFS;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,6 +41,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_TRANS_INF",
@@ -105,6 +112,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
@@ -202,6 +210,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_TRANS_INF",
             "OWL2_DL_MEM_RULES_INF",
@@ -458,6 +467,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
             "OWL2_MEM_RDFS_INF",
@@ -600,6 +610,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_TRANS_INF",
@@ -663,6 +674,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
@@ -757,6 +769,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
             "OWL2_MEM_RDFS_INF",
@@ -879,6 +892,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
@@ -986,6 +1000,7 @@ public class OntClassSubClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
             "OWL2_MEM_RDFS_INF",
@@ -1262,6 +1277,7 @@ public class OntClassSubClassesTest {
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_RULES_INF",
             "OWL2_EL_MEM_RDFS_INF",
@@ -1443,6 +1459,7 @@ public class OntClassSubClassesTest {
     @EnumSource(names = {
             "OWL2_DL_MEM",
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_DL_MEM_RDFS_INF",
             "OWL2_DL_MEM_RULES_INF",
             "OWL2_MEM",
@@ -1557,4 +1574,43 @@ public class OntClassSubClassesTest {
         Assertions.assertEquals(Set.of("C", "Nothing"), indirectB, "wrong indirect nodes for B");
         Assertions.assertEquals(Set.of("B", "Nothing"), indirectC, "wrong indirect nodes for C");
     }
+
+    @Test
+    public void testListSubClassesWithParallelFrontier() {
+        // a wide hierarchy with diamonds and cycles
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_BUILTIN_INF);
+        Random random = new Random(42);
+        List<OntClass> classes = new ArrayList<>();
+        classes.add(m.createOntClass(NS + "C0"));
+        for (int i = 1; i < 500; i++) {
+            OntClass c = m.createOntClass(NS + "C" + i);
+            c.addSuperClass(classes.get(random.nextInt(Math.min(i, 20))));
+            c.addSuperClass(classes.get(random.nextInt(i)));
+            classes.add(c);
+        }
+        classes.get(5).addSuperClass(classes.get(300));
+
+        Map<String, Set<String>> expectedSubs = new HashMap<>();
+        Map<String, Set<String>> expectedSupers = new HashMap<>();
+        classes.forEach(c -> {
+            expectedSubs.put(c.getLocalName(), subClasses(m, c.getLocalName(), false));
+            expectedSupers.put(c.getLocalName(), c.superClasses(false).map(Resource::getLocalName).collect(Collectors.toSet()));
+        });
+        Assertions.assertEquals(499, expectedSubs.get("C0").size());
+
+        OntSpecification spec = OntSpecification.OWL2_DL_MEM_BUILTIN_INF;
+        OntSpecification parallel = new OntSpecification(
+                OntObjectPersonalityBuilder.from(spec.getPersonality())
+                        .setName(spec.getPersonality().getName())
+                        .setConfig(spec.getConfig().setInt(OntModelControls.PARALLEL_HIERARCHY_FRONTIER_THRESHOLD, 2))
+                        .build(),
+                spec.getReasonerFactory()
+        );
+        OntModel p = OntModelFactory.createModel(m.getGraph(), parallel);
+        classes.forEach(c -> {
+            Assertions.assertEquals(expectedSubs.get(c.getLocalName()), subClasses(p, c.getLocalName(), false));
+            Assertions.assertEquals(expectedSupers.get(c.getLocalName()),
+                    p.getOntClass(c.getURI()).superClasses(false).map(Resource::getLocalName).collect(Collectors.toSet()));
+        });
+    }
 }
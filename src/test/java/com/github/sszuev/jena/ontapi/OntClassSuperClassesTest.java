@@ -29,6 +29,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -95,6 +96,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
     })
@@ -189,6 +191,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM",
@@ -311,6 +314,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
     })
@@ -388,6 +392,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -430,6 +435,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -501,6 +507,7 @@ public class OntClassSuperClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
             "OWL1_MEM_RDFS_INF",
@@ -1,8 +1,12 @@
 package com.github.sszuev.jena.ontapi;
 
+import com.github.sszuev.jena.ontapi.impl.HierarchySession;
+import com.github.sszuev.jena.ontapi.impl.OntGraphModelImpl;
 import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntHierarchySession;
 import com.github.sszuev.jena.ontapi.model.OntIndividual;
 import com.github.sszuev.jena.ontapi.model.OntModel;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDFS;
 import org.junit.jupiter.api.Assertions;
@@ -11,6 +15,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -43,6 +48,7 @@ public class OntIndividualClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -132,6 +138,7 @@ public class OntIndividualClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "OWL1_LITE_MEM_RDFS_INF",
@@ -323,6 +330,7 @@ public class OntIndividualClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "OWL1_LITE_MEM_RDFS_INF",
@@ -458,6 +466,7 @@ public class OntIndividualClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
             "OWL1_LITE_MEM_RDFS_INF",
@@ -653,6 +662,7 @@ public class OntIndividualClassesTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM_RDFS_INF",
     })
@@ -718,4 +728,148 @@ public class OntIndividualClassesTest {
         Assertions.assertEquals(hashSetOf("A", "D"), directAD);
         Assertions.assertEquals(hashSetOf("A", "D"), indirectAD);
     }
+
+    @ParameterizedTest
+    @EnumSource
+    public void testHasOntClass(TestSpec spec) {
+        OntModel m1 = createClassesABCDAEB(OntModelFactory.createModel(spec.inst));
+        OntModel m2 = createClassesAGBCFDE(OntModelFactory.createModel(spec.inst));
+        for (OntModel m : List.of(m1, m2)) {
+            OntClass A = m.getOntClass(NS + "A");
+            OntClass D = m.getOntClass(NS + "D");
+            OntIndividual iA = A.createIndividual("iA");
+            OntIndividual iAD = A.createIndividual(NS + "iAD").attachClass(D);
+            List<OntClass> classes = m.classes().collect(Collectors.toList());
+            for (OntIndividual i : List.of(iA, iAD)) {
+                for (boolean direct : new boolean[]{true, false}) {
+                    Set<OntClass> expected = i.classes(direct).collect(Collectors.toSet());
+                    for (OntClass c : classes) {
+                        Assertions.assertEquals(expected.contains(c), i.hasOntClass(c, direct),
+                                "Wrong result for " + i + ", " + c + ", direct = " + direct);
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+            "OWL2_MEM",
+            "OWL2_MEM_RDFS_INF",
+    })
+    public void testListOntClassesWithHierarchySession(TestSpec spec) {
+        OntModel m1 = createClassesABCDAEB(OntModelFactory.createModel(spec.inst));
+        OntModel m2 = createClassesAGBCFDE(OntModelFactory.createModel(spec.inst));
+        OntModel m3 = createClassesiAEDcCABiAE(OntModelFactory.createModel(spec.inst));
+        for (OntModel m : List.of(m1, m2, m3)) {
+            List<OntClass> classes = m.classes().collect(Collectors.toList());
+            classes.forEach(c -> c.createIndividual(NS + "i" + c.getLocalName()));
+            m.getOntClass(NS + "A").createIndividual(NS + "iAD").attachClass(m.getOntClass(NS + "D"));
+            List<OntIndividual> individuals = m.individuals().collect(Collectors.toList());
+
+            Map<OntIndividual, Set<OntClass>> expectedClasses = individuals.stream()
+                    .collect(Collectors.toMap(it -> it, it -> it.classes(false).collect(Collectors.toSet())));
+            Map<OntClass, Set<OntIndividual>> expectedIndividuals = classes.stream()
+                    .collect(Collectors.toMap(it -> it, it -> it.individuals(false).collect(Collectors.toSet())));
+            try (OntHierarchySession ignored = m.hierarchySession()) {
+                // run twice, the second time the values are taken from the memo
+                for (int k = 0; k < 2; k++) {
+                    individuals.forEach(i -> {
+                        Set<OntClass> actual = i.classes(false).collect(Collectors.toSet());
+                        Assertions.assertEquals(expectedClasses.get(i), actual, "Wrong classes for " + i);
+                        classes.forEach(c -> Assertions.assertEquals(actual.contains(c), i.hasOntClass(c, false),
+                                "Wrong result for " + i + ", " + c));
+                    });
+                    classes.forEach(c -> Assertions.assertEquals(expectedIndividuals.get(c),
+                            c.individuals(false).collect(Collectors.toSet()), "Wrong individuals for " + c));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testHierarchySessionAfterChanges(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        OntClass c = m.createOntClass(NS + "C");
+        b.addSuperClass(a);
+        OntIndividual i = b.createIndividual(NS + "i");
+
+        OntHierarchySession s1 = m.hierarchySession();
+        try (OntHierarchySession ignored = m.hierarchySession()) {
+            Assertions.assertEquals(Set.of(a, b), i.classes(false).collect(Collectors.toSet()));
+            Assertions.assertEquals(Set.of(i), a.individuals(false).collect(Collectors.toSet()));
+
+            a.addSuperClass(c);
+            Assertions.assertEquals(Set.of(a, b, c), i.classes(false).collect(Collectors.toSet()));
+            Assertions.assertTrue(i.hasOntClass(c, false));
+            Assertions.assertEquals(Set.of(i), c.individuals(false).collect(Collectors.toSet()));
+        }
+        // the outer session is still open
+        b.removeSuperClass(a);
+        Assertions.assertEquals(Set.of(b), i.classes(false).collect(Collectors.toSet()));
+        Assertions.assertFalse(i.hasOntClass(c, false));
+        Assertions.assertEquals(Set.of(), c.individuals(false).collect(Collectors.toSet()));
+        s1.close();
+        s1.close();
+
+        Assertions.assertEquals(Set.of(b), i.classes(false).collect(Collectors.toSet()));
+        try (OntHierarchySession ignored = m.hierarchySession()) {
+            Assertions.assertEquals(Set.of(b), i.classes(false).collect(Collectors.toSet()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+    })
+    public void testHierarchySessionChangeDuringComputation(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        try (OntHierarchySession ignored = m.hierarchySession()) {
+            HierarchySession session = Objects.requireNonNull(OntGraphModelImpl.hierarchySession(m));
+            // the graph is changed while the (now stale) closure is being computed into the empty memo
+            Assertions.assertEquals(Set.of(a), session.superClasses(a, it -> {
+                a.addSuperClass(b);
+                return Set.of(a);
+            }));
+            Assertions.assertEquals(Set.of(a, b), session.superClasses(a, it -> Set.of(a, b)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testHierarchySessionKeptOnAssertions(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst);
+        m.setID("http://base");
+        OntModel imported = OntModelFactory.createModel(spec.inst);
+        imported.setID("http://imported");
+        m.addImport(imported);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        try (OntHierarchySession ignored = m.hierarchySession()) {
+            HierarchySession session = Objects.requireNonNull(OntGraphModelImpl.hierarchySession(m));
+            Set<OntClass> closure = session.superClasses(a, it -> Set.of(a));
+
+            // class assertions and annotations do not change the class hierarchy
+            m.createResource(NS + "i", a).addProperty(RDFS.label, "i");
+            a.addComment("A");
+            Assertions.assertSame(closure, session.superClasses(a, it -> Assertions.fail()));
+
+            // direct change of a data graph of the imported model
+            imported.getBaseGraph().add(Triple.create(a.asNode(), RDFS.subClassOf.asNode(), b.asNode()));
+            Assertions.assertEquals(Set.of(a, b), session.superClasses(a, it -> Set.of(a, b)));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.sszuev.jena.ontapi;
 
 import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntHierarchy;
 import com.github.sszuev.jena.ontapi.model.OntModel;
 import com.github.sszuev.jena.ontapi.testutils.RDFIOTestUtils;
 import org.apache.jena.rdf.model.Resource;
@@ -261,4 +262,60 @@ public class OntModelClassesTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testClassHierarchy(TestSpec spec) {
+        List<OntModel> models = List.of(
+                TestModelFactory.createClassesABCDEFGHKLM(OntModelFactory.createModel(spec.inst)),
+                TestModelFactory.createClassesDGCFKBEHAG(OntModelFactory.createModel(spec.inst)),
+                TestModelFactory.createClassesAGBCFDE(OntModelFactory.createModel(spec.inst)),
+                TestModelFactory.createClassesABCA(OntModelFactory.createModel(spec.inst)),
+                RDFIOTestUtils.readResourceToModel(OntModelFactory.createModel(spec.inst), "/pizza.ttl", Lang.TURTLE),
+                RDFIOTestUtils.readResourceToModel(OntModelFactory.createModel(spec.inst), "/family.ttl", Lang.TURTLE)
+        );
+        for (OntModel m : models) {
+            OntHierarchy<OntClass> hierarchy = m.classHierarchy();
+            Set<OntClass> classes = m.ontObjects(OntClass.class).collect(Collectors.toSet());
+            Assertions.assertTrue(hierarchy.nodes().containsAll(classes));
+            for (OntClass c : classes) {
+                Assertions.assertEquals(c.subClasses(true).collect(Collectors.toSet()), hierarchy.directSubs(c),
+                        "Wrong direct subclasses for " + c);
+                Assertions.assertEquals(c.superClasses(true).collect(Collectors.toSet()), hierarchy.directSupers(c),
+                        "Wrong direct superclasses for " + c);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_MEM",
+            "OWL1_MEM",
+    })
+    public void testClassHierarchyEquivalents(TestSpec spec) {
+        //  A   B
+        //  .\ /.
+        //  . C .
+        //  . | .
+        //  . D .
+        //  ./  .
+        //  A   .   E
+        //   \  .  |
+        //    \ . /
+        //      B
+        OntModel m = TestModelFactory.createClassesABCDAEB(OntModelFactory.createModel(spec.inst));
+        OntHierarchy<OntClass> hierarchy = m.classHierarchy();
+        OntClass A = m.getOntClass(TestModelFactory.NS + "A");
+        OntClass E = m.getOntClass(TestModelFactory.NS + "E");
+        Assertions.assertEquals(Set.of("B", "C", "D"),
+                hierarchy.equivalents(A).stream().map(Resource::getLocalName).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of("A", "B", "C", "D"),
+                hierarchy.directSubs(E).stream().map(Resource::getLocalName).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of("E"),
+                hierarchy.directSupers(A).stream().map(Resource::getLocalName).collect(Collectors.toSet()));
+        Assertions.assertTrue(hierarchy.roots().contains(E));
+    }
 }
@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class OntModelHierarchyRootsTest {
@@ -23,6 +24,7 @@ public class OntModelHierarchyRootsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM",
@@ -86,6 +88,7 @@ public class OntModelHierarchyRootsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM",
@@ -152,6 +155,7 @@ public class OntModelHierarchyRootsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -204,6 +208,7 @@ public class OntModelHierarchyRootsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL1_MEM",
@@ -279,4 +284,82 @@ public class OntModelHierarchyRootsTest {
         Assertions.assertEquals(2, actual.size());
         Assertions.assertEquals(expected, new HashSet<>(actual));
     }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testListHierarchyRootsMatchesIsHierarchyRoot(TestSpec spec) {
+        List<UnaryOperator<OntModel>> factories = List.of(
+                TestModelFactory::createClassesABCDAEB,
+                TestModelFactory::createClassesABCDEFBCF,
+                TestModelFactory::createClassesiAEDcCABiAE,
+                TestModelFactory::createClassesABCD,
+                TestModelFactory::createClassesABCDEFGHKLM,
+                TestModelFactory::createClassesABCDEF,
+                TestModelFactory::createClassesDBCA,
+                TestModelFactory::createClassesBCA,
+                TestModelFactory::createClassesABC,
+                TestModelFactory::createClassesDGCFKBEHAG,
+                TestModelFactory::createClassesABCA,
+                TestModelFactory::createClassesDBFCEA,
+                TestModelFactory::createClassesAGBCFDE
+        );
+        for (UnaryOperator<OntModel> factory : factories) {
+            OntModel m = factory.apply(OntModelFactory.createModel(spec.inst));
+            m.createOntClass(NS + "X").addSuperClass(m.getOWLThing());
+            Set<OntClass> expected = m.ontObjects(OntClass.class)
+                    .filter(c -> !c.isURIResource() || !c.asNamed().isBuiltIn())
+                    .filter(OntClass::isHierarchyRoot)
+                    .collect(Collectors.toSet());
+            Assertions.assertEquals(expected, m.hierarchyRoots().collect(Collectors.toSet()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testListHierarchyRootsWithCycles(TestSpec spec) {
+        // the cycle A-D-C-B has superclass E;
+        // as for OntClass#isHierarchyRoot, direct superclasses of cycle members do not include E
+        OntModel m1 = TestModelFactory.createClassesABCDAEB(OntModelFactory.createModel(spec.inst));
+        Assertions.assertEquals(Set.of("A", "B", "C", "D", "E"), m1.hierarchyRoots().map(Resource::getLocalName).collect(Collectors.toSet()));
+
+        // the cycle C-F-D has superclasses A and B
+        OntModel m2 = TestModelFactory.createClassesABCDEFBCF(OntModelFactory.createModel(spec.inst));
+        Assertions.assertEquals(Set.of("A", "B", "C", "D", "E", "F"), m2.hierarchyRoots().map(Resource::getLocalName).collect(Collectors.toSet()));
+
+        // the cycle A-D-I_AE-B has superclass C_C
+        OntModel m3 = TestModelFactory.createClassesiAEDcCABiAE(OntModelFactory.createModel(spec.inst));
+        Assertions.assertEquals(m3.ontObjects(OntClass.class).collect(Collectors.toSet()), m3.hierarchyRoots().collect(Collectors.toSet()));
+        Assertions.assertEquals(7, m3.hierarchyRoots().count());
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public void testListHierarchyRootsAfterChanges(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        b.addSuperClass(a);
+        Assertions.assertEquals(Set.of(a), m.hierarchyRoots().collect(Collectors.toSet()));
+
+        OntClass c = m.createOntClass(NS + "C");
+        Assertions.assertEquals(Set.of(a, c), m.hierarchyRoots().collect(Collectors.toSet()));
+
+        a.addSuperClass(b);
+        Assertions.assertEquals(Set.of(a, b, c), m.hierarchyRoots().collect(Collectors.toSet()));
+
+        b.addSuperClass(c);
+        Assertions.assertEquals(Set.of(c), m.hierarchyRoots().collect(Collectors.toSet()));
+
+        m.removeOntObject(c);
+        Assertions.assertEquals(Set.of(a, b), m.hierarchyRoots().collect(Collectors.toSet()));
+    }
 }
@@ -0,0 +1,347 @@
+package com.github.sszuev.jena.ontapi;
+
+import com.github.sszuev.jena.ontapi.impl.HierarchyIndex;
+import com.github.sszuev.jena.ontapi.impl.OntGraphModelImpl;
+import com.github.sszuev.jena.ontapi.impl.ReachabilityLabels;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntDataProperty;
+import com.github.sszuev.jena.ontapi.model.OntDisjoint;
+import com.github.sszuev.jena.ontapi.model.OntIndividual;
+import com.github.sszuev.jena.ontapi.model.OntList;
+import com.github.sszuev.jena.ontapi.model.OntModel;
+import com.github.sszuev.jena.ontapi.model.OntObjectProperty;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.OWL2;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.sszuev.jena.ontapi.TestModelFactory.NS;
+
+public class OntModelIndexesTest {
+
+    private static Set<String> subClasses(OntModel m, String name, boolean direct) {
+        return m.getResource(NS + name).as(OntClass.class).subClasses(direct)
+                .map(Resource::getLocalName).collect(Collectors.toSet());
+    }
+
+    private static Set<String> superClasses(OntModel m, String name, boolean direct) {
+        return m.getResource(NS + name).as(OntClass.class).superClasses(direct)
+                .map(Resource::getLocalName).collect(Collectors.toSet());
+    }
+
+    private static Set<String> subProperties(OntModel m, String name, boolean direct) {
+        return m.getResource(NS + name).as(OntObjectProperty.class).subProperties(direct)
+                .map(Resource::getLocalName).collect(Collectors.toSet());
+    }
+
+    private static Set<String> superProperties(OntModel m, String name, boolean direct) {
+        return m.getResource(NS + name).as(OntObjectProperty.class).superProperties(direct)
+                .map(Resource::getLocalName).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testIndexesAvailability() {
+        Assertions.assertNotNull(OntGraphModelImpl.indexes(
+                OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF)));
+        Assertions.assertNull(OntGraphModelImpl.indexes(
+                OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_BUILTIN_INF)));
+        Assertions.assertNull(OntGraphModelImpl.indexes(
+                OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_RDFS_INF)));
+    }
+
+    @Test
+    public void testClassHierarchyIncrementalChanges() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        OntClass c = m.createOntClass(NS + "C");
+        OntClass d = m.createOntClass(NS + "D");
+        b.addSuperClass(a);
+        c.addSuperClass(b);
+
+        Assertions.assertEquals(Set.of("B", "C"), subClasses(m, "A", false));
+        Assertions.assertEquals(Set.of("B"), subClasses(m, "A", true));
+        Assertions.assertEquals(Set.of("A", "B"), superClasses(m, "C", false));
+
+        d.addSuperClass(c);
+        Assertions.assertEquals(Set.of("B", "C", "D"), subClasses(m, "A", false));
+        Assertions.assertEquals(Set.of("A", "B", "C"), superClasses(m, "D", false));
+        Assertions.assertEquals(Set.of("C"), superClasses(m, "D", true));
+
+        c.removeSuperClass(b);
+        Assertions.assertEquals(Set.of("B"), subClasses(m, "A", false));
+        Assertions.assertEquals(Set.of("C"), superClasses(m, "D", false));
+        Assertions.assertEquals(Set.of(), superClasses(m, "C", false));
+
+        // direct modification of the base graph, bypassing the model
+        m.getBaseGraph().add(Triple.create(c.asNode(), RDFS.subClassOf.asNode(), a.asNode()));
+        Assertions.assertEquals(Set.of("B", "C", "D"), subClasses(m, "A", false));
+        Assertions.assertEquals(Set.of("B", "C"), subClasses(m, "A", true));
+    }
+
+    @Test
+    public void testClassHierarchyDeclarationChanges() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass a = m.createOntClass(NS + "A");
+        m.createOntClass(NS + "B").addSuperClass(a);
+        Resource c = m.createResource(NS + "C").addProperty(RDFS.subClassOf, a);
+
+        Assertions.assertEquals(Set.of("B"), subClasses(m, "A", false));
+
+        m.add(c, RDF.type, OWL2.Class);
+        Assertions.assertEquals(Set.of("B", "C"), subClasses(m, "A", false));
+
+        m.remove(c, RDF.type, OWL2.Class);
+        Assertions.assertEquals(Set.of("B"), subClasses(m, "A", false));
+    }
+
+    @Test
+    public void testClassHierarchyKeptOnAnnotationAndAssertionChanges() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        b.addSuperClass(a);
+        HierarchyIndex<OntClass> index = Objects.requireNonNull(OntGraphModelImpl.indexes(m)).classHierarchy();
+        Set<OntClass> subs = index.subs().indirect(a);
+        Assertions.assertEquals(Set.of(b), subs);
+
+        a.addComment("comment");
+        b.addLabel("label");
+        m.createIndividual(null, b).addLabel("anonymous");
+        m.createResource(NS + "i", a).addProperty(RDFS.seeAlso, b);
+        Assertions.assertSame(subs, index.subs().indirect(a));
+
+        // a new anonymous class expression may change typing
+        m.createObjectSomeValuesFrom(m.createObjectProperty(NS + "p"), a);
+        Assertions.assertNotSame(subs, index.subs().indirect(a));
+        Assertions.assertEquals(Set.of(b), index.subs().indirect(a));
+    }
+
+    @Test
+    public void testClassHierarchyImportChanges() {
+        OntModel base = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        base.setID("http://base");
+        OntModel imported = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        imported.setID("http://imported");
+
+        OntClass a = base.createOntClass(NS + "A");
+        base.createOntClass(NS + "B").addSuperClass(a);
+        imported.createOntClass(NS + "C").addSuperClass(imported.createOntClass(NS + "B"));
+
+        Assertions.assertEquals(Set.of("B"), subClasses(base, "A", false));
+
+        base.addImport(imported);
+        Assertions.assertEquals(Set.of("B", "C"), subClasses(base, "A", false));
+
+        // change in the imported graph
+        Graph data = imported.getBaseGraph();
+        data.add(Triple.create(NodeFactory.createURI(NS + "D"), RDF.type.asNode(), OWL2.Class.asNode()));
+        data.add(Triple.create(NodeFactory.createURI(NS + "D"), RDFS.subClassOf.asNode(), NodeFactory.createURI(NS + "C")));
+        Assertions.assertEquals(Set.of("B", "C", "D"), subClasses(base, "A", false));
+        Assertions.assertEquals(Set.of("A", "B", "C"), superClasses(base, "D", false));
+
+        base.removeImport(imported);
+        Assertions.assertEquals(Set.of("B"), subClasses(base, "A", false));
+    }
+
+    @Test
+    public void testPropertyHierarchy() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntObjectProperty p1 = m.createObjectProperty(NS + "p1");
+        OntObjectProperty p2 = m.createObjectProperty(NS + "p2");
+        OntObjectProperty p3 = m.createObjectProperty(NS + "p3");
+        OntObjectProperty p4 = m.createObjectProperty(NS + "p4");
+        OntObjectProperty q1 = m.createObjectProperty(NS + "q1");
+        OntObjectProperty q2 = m.createObjectProperty(NS + "q2");
+        p1.addSuperProperty(p2);
+        p2.addSuperProperty(p3);
+
+        Assertions.assertEquals(Set.of("p1", "p2"), subProperties(m, "p3", false));
+        Assertions.assertEquals(Set.of("p2"), subProperties(m, "p3", true));
+        Assertions.assertEquals(Set.of("p2", "p3"), superProperties(m, "p1", false));
+
+        // incremental change
+        p4.addSuperProperty(p1);
+        Assertions.assertEquals(Set.of("p1", "p2", "p4"), subProperties(m, "p3", false));
+
+        // equivalent properties
+        p3.addEquivalentProperty(q1);
+        Assertions.assertEquals(Set.of("p1", "p2", "p4", "q1"), subProperties(m, "p3", false));
+        Assertions.assertEquals(Set.of("p1", "p2", "p3", "p4"), subProperties(m, "q1", false));
+        Assertions.assertEquals(Set.of("p2", "p3", "q1"), superProperties(m, "p1", false));
+        Assertions.assertEquals(Set.of("p3", "q1"), superProperties(m, "p2", true));
+
+        // inverse properties: p1 -> p2 gives q2 -> inverse(p2)
+        OntObjectProperty ip2 = m.createObjectProperty(NS + "ip2");
+        q2.addInverseOfStatement(p1);
+        ip2.addInverseOfStatement(p2);
+        Assertions.assertEquals(Set.of("ip2"), superProperties(m, "q2", false));
+        Assertions.assertEquals(Set.of("q2"), subProperties(m, "ip2", true));
+
+        m.remove(q2, OWL2.inverseOf, p1);
+        Assertions.assertEquals(Set.of(), superProperties(m, "q2", false));
+
+        // direct modification of the base graph, bypassing the model
+        m.getBaseGraph().delete(Triple.create(p3.asNode(), OWL2.equivalentProperty.asNode(), q1.asNode()));
+        Assertions.assertEquals(Set.of("p1", "p2", "p4"), subProperties(m, "p3", false));
+        Assertions.assertEquals(Set.of(), subProperties(m, "q1", false));
+    }
+
+    @Test
+    public void testDeclaredPropertiesAfterChanges() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B").addSuperClass(a);
+        OntObjectProperty p1 = m.createObjectProperty(NS + "p1").addDomain(a);
+        OntDataProperty p2 = m.createDataProperty(NS + "p2").addDomain(b);
+
+        Assertions.assertEquals(Set.of(p1), a.declaredProperties(false).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p1, p2), b.declaredProperties(false).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p2), b.declaredProperties(true).collect(Collectors.toSet()));
+        Assertions.assertTrue(b.hasDeclaredProperty(p1, false));
+        Assertions.assertFalse(b.hasDeclaredProperty(p1, true));
+
+        // a new global property
+        OntObjectProperty p3 = m.createObjectProperty(NS + "p3");
+        Assertions.assertEquals(Set.of(p1, p3), a.declaredProperties(true).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p2), b.declaredProperties(true).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p1, p2, p3), b.declaredProperties(false).collect(Collectors.toSet()));
+
+        // domain changes
+        p3.addDomain(b);
+        p1.removeDomain(a);
+        Assertions.assertEquals(Set.of(p1), a.declaredProperties(true).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p2, p3), b.declaredProperties(true).collect(Collectors.toSet()));
+
+        // hierarchy changes
+        b.removeSuperClass(a);
+        Assertions.assertEquals(Set.of(p1, p2, p3), b.declaredProperties(true).collect(Collectors.toSet()));
+        Assertions.assertEquals(Set.of(p1), a.declaredProperties(false).collect(Collectors.toSet()));
+
+        // direct modification of the base graph, bypassing the model
+        m.getBaseGraph().add(Triple.create(p2.asNode(), RDFS.domain.asNode(), a.asNode()));
+        Assertions.assertEquals(Set.of(p1), a.declaredProperties(false).collect(Collectors.toSet()));
+        Assertions.assertFalse(b.hasDeclaredProperty(p2, false));
+    }
+
+    @Test
+    public void testDisjointClassesAfterChanges() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass.Named a = m.createOntClass(NS + "A");
+        OntClass.Named b = m.createOntClass(NS + "B");
+        OntClass.Named c = m.createOntClass(NS + "C");
+        OntClass.Named d = m.createOntClass(NS + "D");
+        a.addDisjointClass(b);
+
+        Assertions.assertTrue(a.isDisjoint(b));
+        Assertions.assertTrue(b.isDisjoint(a));
+        Assertions.assertFalse(a.isDisjoint(c));
+
+        // owl:AllDisjointClasses
+        OntDisjoint.Classes all = m.createDisjointClasses(b, c, d);
+        Assertions.assertTrue(c.isDisjoint(d));
+        Assertions.assertTrue(b.isDisjoint(c));
+        Assertions.assertFalse(a.isDisjoint(d));
+        m.removeOntObject(all);
+        Assertions.assertFalse(c.isDisjoint(d));
+        Assertions.assertFalse(b.isDisjoint(c));
+        Assertions.assertTrue(b.isDisjoint(a));
+
+        // owl:disjointUnionOf is not taken into account
+        OntList<OntClass> union = a.createDisjointUnion(List.of(c, d));
+        Assertions.assertFalse(d.isDisjoint(c));
+        a.removeDisjointUnion(union);
+        Assertions.assertFalse(d.isDisjoint(c));
+        Assertions.assertFalse(b.isDisjoint(c));
+
+        // owl:disjointWith
+        a.removeDisjointClass(b);
+        Assertions.assertFalse(a.isDisjoint(b));
+
+        // direct modification of the base graph, bypassing the model
+        m.getBaseGraph().add(Triple.create(d.asNode(), OWL2.disjointWith.asNode(), a.asNode()));
+        Assertions.assertTrue(a.isDisjoint(d));
+        m.getBaseGraph().delete(Triple.create(d.asNode(), OWL2.disjointWith.asNode(), a.asNode()));
+        Assertions.assertFalse(a.isDisjoint(d));
+    }
+
+    @Test
+    public void testHasOntClassWithReachabilityLabels() {
+        OntModel m = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        OntClass a = m.createOntClass(NS + "A");
+        OntClass b = m.createOntClass(NS + "B");
+        OntClass c = m.createOntClass(NS + "C");
+        OntClass d = m.createOntClass(NS + "D");
+        OntClass e = m.createOntClass(NS + "E");
+        b.addSuperClass(a);
+        c.addSuperClass(b);
+        // cycle
+        d.addSuperClass(e);
+        e.addSuperClass(d);
+        OntIndividual i = c.createIndividual(NS + "i");
+        OntIndividual j = d.createIndividual(NS + "j");
+
+        Assertions.assertTrue(i.hasOntClass(a, false));
+        Assertions.assertTrue(i.hasOntClass(c, false));
+        Assertions.assertFalse(i.hasOntClass(d, false));
+        Assertions.assertTrue(j.hasOntClass(e, false));
+        Assertions.assertFalse(j.hasOntClass(a, false));
+
+        e.addSuperClass(c);
+        Assertions.assertTrue(j.hasOntClass(a, false));
+
+        b.removeSuperClass(a);
+        Assertions.assertFalse(i.hasOntClass(a, false));
+        Assertions.assertFalse(j.hasOntClass(a, false));
+        Assertions.assertTrue(j.hasOntClass(b, false));
+    }
+
+    @Test
+    public void testReachabilityLabelsOnRandomGraph() {
+        Random random = new Random(42);
+        Map<Node, Set<Node>> adjacency = new HashMap<>();
+        List<Node> nodes = IntStream.range(0, 200)
+                .mapToObj(it -> NodeFactory.createURI(NS + it))
+                .collect(Collectors.toList());
+        for (int i = 0; i < 400; i++) {
+            Node from = nodes.get(random.nextInt(nodes.size()));
+            Node to = nodes.get(random.nextInt(nodes.size()));
+            adjacency.computeIfAbsent(from, it -> new HashSet<>()).add(to);
+        }
+        ReachabilityLabels labels = ReachabilityLabels.build(adjacency, it -> true);
+        for (Node from : nodes) {
+            Set<Node> expected = new HashSet<>();
+            Deque<Node> queue = new ArrayDeque<>(adjacency.getOrDefault(from, Set.of()));
+            while (!queue.isEmpty()) {
+                Node next = queue.removeFirst();
+                if (expected.add(next)) {
+                    queue.addAll(adjacency.getOrDefault(next, Set.of()));
+                }
+            }
+            for (Node to : nodes) {
+                if (from.equals(to)) {
+                    continue;
+                }
+                Assertions.assertEquals(expected.contains(to), labels.reaches(from, to), from + " -> " + to);
+            }
+        }
+    }
+}
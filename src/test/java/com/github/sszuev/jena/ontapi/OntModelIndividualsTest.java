@@ -1,5 +1,6 @@
 package com.github.sszuev.jena.ontapi;
 
+import com.github.sszuev.jena.ontapi.common.OntObjectPersonalityBuilder;
 import com.github.sszuev.jena.ontapi.model.OntClass;
 import com.github.sszuev.jena.ontapi.model.OntIndividual;
 import com.github.sszuev.jena.ontapi.model.OntModel;
@@ -18,9 +19,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,6 +34,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -52,6 +57,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -75,6 +81,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -98,6 +105,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -123,6 +131,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -148,6 +157,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -237,6 +247,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_RDFS_INF",
             "OWL2_MEM_TRANS_INF",
@@ -269,6 +280,7 @@ public class OntModelIndividualsTest {
     @ParameterizedTest
     @EnumSource(names = {
             "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "OWL2_MEM",
             "OWL2_MEM_TRANS_INF",
     })
@@ -335,4 +347,98 @@ public class OntModelIndividualsTest {
         }
         Assertions.assertEquals(expectedNumOfIndividuals, individuals.size());
     }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM",
+            "OWL2_MEM",
+            "OWL2_EL_MEM",
+            "OWL1_MEM",
+            "RDFS_MEM",
+    })
+    public void testListIndividualsGroupedBySubject(TestSpec spec) {
+        OntSpecification grouped = new OntSpecification(
+                OntObjectPersonalityBuilder.from(spec.inst.getPersonality())
+                        .setName(spec.inst.getPersonality().getName())
+                        .setConfig(spec.inst.getConfig().setTrue(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS))
+                        .build(),
+                spec.inst.getReasonerFactory()
+        );
+        OntModel m1 = OntModelFactory.createModel(spec.inst);
+        OntModel m2 = OntModelFactory.createModel(grouped);
+        Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            m1.createOntClass(NS + "C" + i);
+        }
+        m1.createResource(NS + "p", RDF.Property);
+        List<Resource> types = m1.classes().collect(Collectors.toList());
+        types.add(m1.getResource(NS + "p"));
+        for (int i = 0; i < 50; i++) {
+            Resource individual = i % 5 == 0 ? m1.createResource() : m1.createResource(NS + "i" + i);
+            int n = 1 + random.nextInt(3);
+            for (int j = 0; j < n; j++) {
+                individual.addProperty(RDF.type, types.get(random.nextInt(types.size())));
+            }
+        }
+        m2.add(m1);
+
+        List<OntIndividual> expected = m1.individuals().collect(Collectors.toList());
+        List<OntIndividual> actual = m2.individuals().collect(Collectors.toList());
+        Assertions.assertFalse(actual.isEmpty());
+        Assertions.assertEquals(actual.size(), new HashSet<>(actual).size());
+        Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+
+        OntClass c = m2.getOntClass(NS + "C0");
+        Assertions.assertEquals(
+                m1.getOntClass(NS + "C0").individuals().collect(Collectors.toSet()),
+                c.individuals().collect(Collectors.toSet())
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM",
+            "OWL2_MEM",
+            "OWL2_MEM_RDFS_INF",
+            "OWL2_EL_MEM",
+            "OWL1_MEM",
+            "RDFS_MEM",
+    })
+    public void testParallelIndividuals(TestSpec spec) {
+        OntModel m = RDFIOTestUtils.readResourceToModel(OntModelFactory.createModel(spec.inst), "/family.ttl", Lang.TURTLE);
+        OntModel other = OntModelFactory.createModel(spec.inst);
+        if (spec != TestSpec.RDFS_MEM) {
+            other.setID(NS + "other");
+        }
+        Random random = new Random(42);
+        List<Resource> types = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            types.add(m.createOntClass(NS + "C" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            Resource individual = i % 5 == 0 ? other.createResource() : other.createResource(NS + "i" + i);
+            int n = 1 + random.nextInt(3);
+            for (int j = 0; j < n; j++) {
+                individual.addProperty(RDF.type, types.get(random.nextInt(types.size())));
+            }
+        }
+        // some individuals belong to both graphs
+        other.listStatements(null, RDF.type, (RDFNode) null).toList().stream()
+                .filter(it -> it.getSubject().isURIResource())
+                .limit(100)
+                .forEach(m::add);
+        if (spec == TestSpec.RDFS_MEM) {
+            m.add(other);
+        } else {
+            m.addImport(other);
+        }
+
+        List<OntIndividual> expected = m.individuals().collect(Collectors.toList());
+        List<OntIndividual> actual = m.parallelIndividuals().collect(Collectors.toList());
+        Assertions.assertFalse(actual.isEmpty());
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+    }
 }
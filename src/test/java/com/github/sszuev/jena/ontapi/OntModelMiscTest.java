@@ -1,18 +1,29 @@
 package com.github.sszuev.jena.ontapi;
 
 import com.github.sszuev.jena.ontapi.impl.GraphListenerBase;
+import com.github.sszuev.jena.ontapi.model.OntAnnotationProperty;
 import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntDataProperty;
+import com.github.sszuev.jena.ontapi.model.OntDataRange;
+import com.github.sszuev.jena.ontapi.model.OntIndividual;
 import com.github.sszuev.jena.ontapi.model.OntModel;
+import com.github.sszuev.jena.ontapi.model.OntObject;
+import com.github.sszuev.jena.ontapi.model.OntObjectProperty;
+import com.github.sszuev.jena.ontapi.testutils.RDFIOTestUtils;
 import com.github.sszuev.jena.ontapi.vocabulary.OWL;
 import com.github.sszuev.jena.ontapi.vocabulary.RDF;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -51,4 +62,38 @@ public class OntModelMiscTest {
         UnionGraph ug = (UnionGraph) m.getGraph();
         Assertions.assertEquals(0L, ug.superGraphs().count());
     }
+
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_MEM",
+            "OWL2_MEM_RDFS_INF",
+            "OWL2_EL_MEM",
+            "OWL1_MEM",
+            "RDFS_MEM",
+    })
+    public void testParallelOntObjects(TestSpec spec) {
+        OntModel m = RDFIOTestUtils.readResourceToModel(OntModelFactory.createModel(spec.inst), "/pizza.ttl", Lang.TURTLE);
+        if (!spec.isRDFS() && spec != TestSpec.RDFS_MEM) {
+            m.addImport(RDFIOTestUtils.readResourceToModel(OntModelFactory.createModel(spec.inst), "/family.ttl", Lang.TURTLE));
+        }
+        List<Class<? extends OntObject>> types = List.of(
+                OntClass.class,
+                OntClass.Named.class,
+                OntClass.ObjectSomeValuesFrom.class,
+                OntClass.UnionOf.class,
+                OntObjectProperty.class,
+                OntDataProperty.class,
+                OntAnnotationProperty.class,
+                OntDataRange.class,
+                OntIndividual.class,
+                OntIndividual.Named.class
+        );
+        for (Class<? extends OntObject> type : types) {
+            List<OntObject> expected = m.ontObjects(type).collect(Collectors.toList());
+            List<OntObject> actual = m.parallelOntObjects(type).collect(Collectors.toList());
+            Assertions.assertEquals(expected.size(), actual.size(), "Wrong number of " + type.getSimpleName());
+            Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(actual), "Wrong " + type.getSimpleName());
+        }
+    }
 }
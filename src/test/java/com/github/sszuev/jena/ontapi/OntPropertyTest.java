@@ -9,6 +9,7 @@ import com.github.sszuev.jena.ontapi.model.OntNamedProperty;
 import com.github.sszuev.jena.ontapi.model.OntObjectProperty;
 import com.github.sszuev.jena.ontapi.model.OntProperty;
 import com.github.sszuev.jena.ontapi.model.OntRelationalProperty;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
@@ -17,6 +18,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -325,6 +330,55 @@ public class OntPropertyTest {
         Assertions.assertEquals(Set.of(c1, c2, c3, c4), p10.declaringClasses(false).collect(Collectors.toSet()));
     }
 
+    @ParameterizedTest
+    @EnumSource(names = {
+            "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+            "OWL2_MEM",
+            "OWL2_MEM_RDFS_INF",
+            "OWL1_MEM",
+            "OWL1_LITE_MEM",
+            "RDFS_MEM",
+    })
+    public void testDeclaringClassesForAllProperties(TestSpec spec) {
+        OntModel m = OntModelFactory.createModel(spec.inst).setNsPrefixes(OntModelFactory.STANDARD);
+        Random random = new Random(42);
+        List<OntClass> classes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            OntClass c = m.createOntClass(":C" + i);
+            if (i > 0) {
+                c.addSuperClass(classes.get(random.nextInt(i)));
+            }
+            if (i > 1 && random.nextInt(4) == 0) {
+                c.addSuperClass(classes.get(random.nextInt(i)));
+            }
+            classes.add(c);
+        }
+        List<OntProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            properties.add(spec == TestSpec.RDFS_MEM ? m.createRDFProperty(":p" + i) :
+                    i % 2 == 0 ? m.createObjectProperty(":p" + i) : m.createDataProperty(":p" + i));
+        }
+        properties.forEach(p -> {
+            int domains = random.nextInt(3);
+            for (int i = 0; i < domains; i++) {
+                p.addProperty(RDFS.domain, classes.get(random.nextInt(classes.size())));
+            }
+            if (random.nextInt(5) == 0) {
+                p.addProperty(RDFS.domain, spec == TestSpec.RDFS_MEM ? RDFS.Resource : OWL.Thing);
+            }
+        });
+
+        for (boolean direct : new boolean[]{true, false}) {
+            Map<OntProperty, Set<OntClass>> actual = m.declaringClasses(direct);
+            Assertions.assertTrue(actual.keySet().containsAll(properties));
+            actual.forEach((p, values) -> Assertions.assertEquals(
+                    p.declaringClasses(direct).collect(Collectors.toSet()), values, "Wrong declaring classes for " + p)
+            );
+            Assertions.assertThrows(UnsupportedOperationException.class, actual::clear);
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(names = {
             "RDFS_MEM",
@@ -4,6 +4,7 @@ package com.github.sszuev.jena.ontapi;
 @ParameterizedTest
 @EnumSource(names = {
         "OWL2_DL_MEM_RDFS_BUILTIN_INF",
+        "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
         "OWL2_DL_MEM",
         "OWL2_DL_MEM_RDFS_INF",
         "OWL2_DL_MEM_TRANS_INF",
@@ -55,6 +56,7 @@ public enum TestSpec {
     OWL2_MEM_MICRO_RULES_INF(OntSpecification.OWL2_FULL_MEM_MICRO_RULES_INF),
 
     OWL2_DL_MEM_RDFS_BUILTIN_INF(OntSpecification.OWL2_DL_MEM_BUILTIN_INF),
+    OWL2_DL_MEM_INDEXED_BUILTIN_INF(OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF),
     OWL2_DL_MEM(OntSpecification.OWL2_DL_MEM),
     OWL2_DL_MEM_RDFS_INF(OntSpecification.OWL2_DL_MEM_RDFS_INF),
     OWL2_DL_MEM_TRANS_INF(OntSpecification.OWL2_DL_MEM_TRANS_INF),
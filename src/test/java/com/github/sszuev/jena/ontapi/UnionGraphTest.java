@@ -1,15 +1,22 @@
 package com.github.sszuev.jena.ontapi;
 
+import com.github.sszuev.jena.ontapi.impl.ConcurrentUnionGraphImpl;
+import com.github.sszuev.jena.ontapi.impl.GraphSummary;
 import com.github.sszuev.jena.ontapi.impl.UnionGraphImpl;
+import com.github.sszuev.jena.ontapi.impl.UnionGraphMetrics;
 import com.github.sszuev.jena.ontapi.model.OntModel;
 import com.github.sszuev.jena.ontapi.testutils.ModelTestUtils;
+import com.github.sszuev.jena.ontapi.utils.Graphs;
 import com.github.sszuev.jena.ontapi.vocabulary.OWL;
 import com.github.sszuev.jena.ontapi.vocabulary.RDF;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
 import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.SimpleEventManager;
 import org.apache.jena.mem.GraphMem;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.shared.AddDeniedException;
@@ -18,13 +25,30 @@ import org.apache.jena.shared.DeleteDeniedException;
 import org.apache.jena.shared.JenaException;
 import org.apache.jena.sparql.graph.GraphReadOnly;
 import org.apache.jena.sparql.graph.GraphWrapper;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.RDFS;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -275,6 +299,612 @@ public class UnionGraphTest {
         Assertions.assertEquals(new HashSet<>(Arrays.asList(a, b, c, d)), u1.listSubGraphBases().toSet());
     }
 
+    @Test
+    public void testFindWithGraphSummaries() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        a.add(Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode()));
+        b.add(Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode()));
+        c.add(Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Ontology.asNode()));
+        UnionGraphImpl u = new UnionGraphImpl(a).setGraphSummaries(true);
+        u.addSubGraph(new UnionGraphImpl(b)).addSubGraph(new UnionGraphImpl(c));
+        Assertions.assertTrue(u.isGraphSummariesEnabled());
+
+        Assertions.assertEquals(2, u.find(null, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+        Assertions.assertEquals(1, u.find(NodeFactory.createURI("C"), null, null).toList().size());
+        Assertions.assertEquals(0, u.find(null, OWL.imports.asNode(), null).toList().size());
+        Assertions.assertTrue(u.contains(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode()));
+        Assertions.assertFalse(u.contains(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Ontology.asNode()));
+
+        // direct modification of a base graph, bypassing the union graph
+        c.add(Triple.create(NodeFactory.createURI("C"), OWL.imports.asNode(), NodeFactory.createURI("B")));
+        Assertions.assertEquals(1, u.find(null, OWL.imports.asNode(), null).toList().size());
+        Assertions.assertEquals(2, u.find(NodeFactory.createURI("C"), null, null).toList().size());
+
+        c.clear();
+        Assertions.assertEquals(0, u.find(NodeFactory.createURI("C"), null, null).toList().size());
+        c.add(Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode()));
+        Assertions.assertTrue(u.contains(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode()));
+        Assertions.assertEquals(3, u.find(null, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+
+        Graph d = createTestMemGraph("d");
+        d.add(Triple.create(NodeFactory.createURI("D"), RDF.type.asNode(), OWL.Class.asNode()));
+        u.addSubGraph(d);
+        Assertions.assertEquals(4, u.find(null, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+        u.removeSubGraph(d);
+        Assertions.assertEquals(3, u.find(null, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+
+        u.setGraphSummaries(false);
+        Assertions.assertFalse(u.isGraphSummariesEnabled());
+        Assertions.assertEquals(3, u.find(null, RDF.type.asNode(), OWL.Class.asNode()).toList().size());
+        Assertions.assertEquals(0, u.find(null, OWL.imports.asNode(), null).toList().size());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testGraphSummariesSkipGraphs() {
+        int[] calls = new int[1];
+        Graph b = new GraphMem() {
+            @Override
+            public ExtendedIterator<Triple> graphBaseFind(Triple m) {
+                calls[0]++;
+                return super.graphBaseFind(m);
+            }
+        };
+        b.add(Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode()));
+        UnionGraphImpl u = new UnionGraphImpl(createTestMemGraph("a"), false).setGraphSummaries(true);
+        u.addSubGraph(new UnionGraphImpl(b));
+
+        u.find(null, OWL.imports.asNode(), null).toList();
+        u.contains(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        int afterBuild = calls[0];
+        u.find(null, OWL.imports.asNode(), null).toList();
+        u.contains(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Assertions.assertEquals(afterBuild, calls[0]);
+        u.find(null, RDF.type.asNode(), null).toList();
+        Assertions.assertEquals(afterBuild + 1, calls[0]);
+    }
+
+    @Test
+    public void testGraphSummaryRebuildOfLargeGraph() {
+        Graph g = createTestMemGraph("g");
+        for (int i = 0; i < 200; i++) {
+            g.add(Triple.create(NodeFactory.createURI("S" + i), RDF.type.asNode(), OWL.Class.asNode()));
+        }
+        // the number of triples exceeds twice the capacity
+        GraphSummary summary = new GraphSummary(g, 16) {
+        }.register();
+        Assertions.assertTrue(summary.mayContain(Triple.createMatch(NodeFactory.createURI("S1"), null, null)));
+        Assertions.assertFalse(summary.mayContain(Triple.createMatch(null, OWL.imports.asNode(), null)));
+        g.add(Triple.create(NodeFactory.createURI("X"), OWL.imports.asNode(), NodeFactory.createURI("Y")));
+        Assertions.assertTrue(summary.mayContain(Triple.createMatch(null, OWL.imports.asNode(), null)));
+        summary.unregister();
+    }
+
+    @Test
+    public void testGraphSummariesDoNotLeak() throws InterruptedException {
+        Graph shared = createTestMemGraph("shared");
+        shared.add(Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode()));
+        SimpleEventManager events = (SimpleEventManager) shared.getEventManager();
+        UnionGraphImpl u = new UnionGraphImpl(createTestMemGraph("a")).setGraphSummaries(true);
+        u.addSubGraph(new UnionGraphImpl(shared));
+        Assertions.assertTrue(u.contains(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode()));
+        Assertions.assertTrue(events.listening());
+
+        WeakReference<UnionGraphImpl> ref = new WeakReference<>(u);
+        //noinspection UnusedAssignment
+        u = null;
+        for (int i = 0; i < 100 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(ref.get());
+        for (int i = 0; i < 100 && events.listening(); i++) {
+            System.gc();
+            Thread.sleep(10);
+            shared.add(Triple.create(NodeFactory.createURI("C" + i), RDF.type.asNode(), OWL.Class.asNode()));
+        }
+        Assertions.assertFalse(events.listening());
+    }
+
+    @ParameterizedTest
+    @EnumSource(UnionGraphImpl.DistinctMode.class)
+    public void testDistinctModes(UnionGraphImpl.DistinctMode mode) {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        Triple t1 = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t4 = Triple.create(NodeFactory.createURI("C"), RDFS.label.asNode(), NodeFactory.createLiteral("1", XSDDatatype.XSDint));
+        Triple t5 = Triple.create(NodeFactory.createURI("C"), RDFS.label.asNode(), NodeFactory.createLiteral("01", XSDDatatype.XSDint));
+        a.add(t1);
+        a.add(t2);
+        a.add(t4);
+        b.add(t2);
+        b.add(t3);
+        c.add(t1);
+        c.add(t3);
+        c.add(t5);
+        UnionGraphImpl u = new UnionGraphImpl(a).setDistinctMode(mode);
+        u.addSubGraph(new UnionGraphImpl(b)).addSubGraph(new UnionGraphImpl(c));
+        Assertions.assertEquals(mode, u.getDistinctMode());
+
+        List<Triple> all = u.find().toList();
+        Assertions.assertEquals(5, all.size());
+        Assertions.assertEquals(Set.of(t1, t2, t3, t4, t5), new HashSet<>(all));
+        Assertions.assertEquals(3, u.find(null, RDF.type.asNode(), null).toList().size());
+        Assertions.assertEquals(3, u.find(NodeFactory.createURI("C"), null, null).toList().size());
+        Assertions.assertEquals(5, u.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testParallelFind(boolean distinct) {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        for (int i = 0; i < 100; i++) {
+            Triple t = Triple.create(NodeFactory.createURI("C" + i), RDF.type.asNode(), OWL.Class.asNode());
+            a.add(t);
+            if (i % 2 == 0) {
+                b.add(t);
+            }
+            if (i % 3 == 0) {
+                c.add(t);
+            }
+            c.add(Triple.create(NodeFactory.createURI("C" + i), RDFS.label.asNode(), NodeFactory.createLiteral("c" + i)));
+        }
+        UnionGraphImpl u = new UnionGraphImpl(a, distinct);
+        u.addSubGraph(new UnionGraphImpl(b, distinct)).addSubGraph(new UnionGraphImpl(c, distinct));
+
+        List<Triple> expected = u.find().toList();
+        List<Triple> actual = u.parallelFind(Triple.ANY).collect(Collectors.toList());
+        Assertions.assertEquals(distinct ? 200 : 284, actual.size());
+        Assertions.assertEquals(expected.size(), actual.size());
+        Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        Assertions.assertEquals(100, u.parallelFind(Triple.createMatch(null, RDFS.label.asNode(), null)).count());
+    }
+
+    @Test
+    public void testMaterializedMode() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Graph c = createTestMemGraph("c");
+        Triple t1 = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode());
+        a.add(t1);
+        b.add(t1);
+        b.add(t2);
+        UnionGraphImpl u = new UnionGraphImpl(a).setMaterialized(true);
+        UnionGraphImpl ub = new UnionGraphImpl(b);
+        u.addSubGraph(ub);
+        Assertions.assertTrue(u.isMaterialized());
+        Assertions.assertEquals(Set.of(t1, t2), u.find().toSet());
+        Assertions.assertEquals(2, u.size());
+        Assertions.assertTrue(u.contains(t2));
+        Assertions.assertFalse(u.contains(t3));
+
+        // direct modification of a sub-graph base
+        b.add(t3);
+        Assertions.assertTrue(u.contains(t3));
+        Assertions.assertEquals(3, u.size());
+
+        // modification through the union graph
+        u.delete(t1);
+        Assertions.assertEquals(Set.of(t1, t2, t3), u.find().toSet());
+        ub.delete(t1);
+        Assertions.assertEquals(Set.of(t2, t3), u.find().toSet());
+
+        u.addSubGraph(new UnionGraphImpl(c));
+        c.add(t1);
+        Assertions.assertEquals(3, u.find().toList().size());
+        b.clear();
+        Assertions.assertEquals(Set.of(t1), u.find().toSet());
+
+        Graph snapshot = u.snapshot();
+        Assertions.assertEquals(Set.of(t1), snapshot.find().toSet());
+        Assertions.assertThrows(AddDeniedException.class, () -> snapshot.add(t2));
+
+        u.setMaterialized(false);
+        Assertions.assertFalse(u.isMaterialized());
+        b.add(t2);
+        Assertions.assertEquals(Set.of(t1, t2), u.find().toSet());
+    }
+
+    @Test
+    public void testMaterializedModeWithValueEqualLiterals() {
+        Node s = NodeFactory.createURI("s");
+        Node p = NodeFactory.createURI("p");
+        Triple t01 = Triple.create(s, p, NodeFactory.createLiteral("01", XSDDatatype.XSDint));
+        Triple t1 = Triple.create(s, p, NodeFactory.createLiteral("1", XSDDatatype.XSDint));
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        b.add(t01);
+        UnionGraphImpl u = new UnionGraphImpl(a);
+        u.addSubGraph(new UnionGraphImpl(b));
+        Assertions.assertTrue(u.contains(t1));
+        Assertions.assertEquals(List.of(t01), u.find(t1).toList());
+
+        u.setMaterialized(true);
+        Assertions.assertTrue(u.contains(t1));
+        Assertions.assertEquals(List.of(t01), u.find(t1).toList());
+
+        // same-term data graphs keep same-term matching
+        UnionGraphImpl u2 = new UnionGraphImpl(GraphMemFactory.createDefaultGraphSameTerm());
+        Graph c = GraphMemFactory.createDefaultGraphSameTerm();
+        c.add(t01);
+        u2.addSubGraph(new UnionGraphImpl(c));
+        boolean expected = u2.contains(t1);
+        u2.setMaterialized(true);
+        Assertions.assertEquals(expected, u2.contains(t1));
+        Assertions.assertTrue(u2.contains(t01));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testSizeTracking(boolean distinct) {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Triple t1 = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t4 = Triple.create(NodeFactory.createURI("D"), RDF.type.asNode(), OWL.Class.asNode());
+        a.add(t1);
+        a.add(t2);
+        b.add(t2);
+        b.add(t3);
+        UnionGraphImpl u = new UnionGraphImpl(a, distinct);
+        UnionGraphImpl ub = new UnionGraphImpl(b, distinct);
+        u.addSubGraph(ub);
+        Assertions.assertFalse(Graphs.isSized(u));
+        u.setSizeTracking(true);
+        Assertions.assertTrue(Graphs.isSized(u));
+
+        int expected = distinct ? 3 : 4;
+        Assertions.assertEquals(expected, u.size());
+        Assertions.assertEquals(expected, Graphs.size(u));
+
+        u.add(t4);
+        Assertions.assertEquals(++expected, u.size());
+        u.add(t4);
+        u.add(t3);
+        Assertions.assertEquals(expected, u.size());
+        u.delete(t2);
+        if (!distinct) {
+            expected--;
+        }
+        Assertions.assertEquals(expected, u.size());
+        u.delete(t4);
+        Assertions.assertEquals(--expected, u.size());
+
+        // direct modification
+        b.add(t4);
+        Assertions.assertEquals(++expected, u.size());
+        ub.delete(t3);
+        Assertions.assertEquals(--expected, u.size());
+        Graph c = createTestMemGraph("c");
+        c.add(t1);
+        u.addSubGraph(new UnionGraphImpl(c));
+        Assertions.assertEquals(distinct ? expected : ++expected, u.size());
+        Assertions.assertEquals(u.find().toList().size(), u.size());
+        u.clear();
+        Assertions.assertEquals(u.find().toList().size(), u.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testSizeTrackingWithValueEqualLiterals(boolean distinct) {
+        Node s = NodeFactory.createURI("s");
+        Node p = NodeFactory.createURI("p");
+        Triple t01 = Triple.create(s, p, NodeFactory.createLiteral("01", XSDDatatype.XSDint));
+        Triple t1 = Triple.create(s, p, NodeFactory.createLiteral("1", XSDDatatype.XSDint));
+        Triple t001 = Triple.create(s, p, NodeFactory.createLiteral("001", XSDDatatype.XSDint));
+        Graph a = createTestMemGraph("a");
+        a.add(t01);
+        UnionGraphImpl u = new UnionGraphImpl(a, distinct).setSizeTracking(true);
+        u.addSubGraph(new UnionGraphImpl(createTestMemGraph("b"), distinct));
+        Assertions.assertEquals(1, u.size());
+
+        u.add(t1);
+        Assertions.assertEquals(2, a.size());
+        Assertions.assertEquals(2, u.size());
+        Assertions.assertEquals(u.find().toList().size(), u.size());
+
+        u.delete(t001);
+        Assertions.assertEquals(2, a.size());
+        Assertions.assertEquals(2, u.size());
+
+        u.addAll(List.of(t001, t01).iterator());
+        Assertions.assertEquals(3, a.size());
+        Assertions.assertEquals(3, u.size());
+
+        u.deleteAll(List.of(t01, Triple.create(s, p, NodeFactory.createLiteral("0001", XSDDatatype.XSDint))).iterator());
+        Assertions.assertEquals(2, a.size());
+        Assertions.assertEquals(2, u.size());
+        Assertions.assertEquals(u.find().toList().size(), u.size());
+    }
+
+    @Test
+    public void testConcurrentUnionGraph() throws Exception {
+        Graph b = createTestMemGraph("b");
+        for (int i = 0; i < 100; i++) {
+            b.add(Triple.create(NodeFactory.createURI("B" + i), RDF.type.asNode(), OWL.Class.asNode()));
+        }
+        ConcurrentUnionGraphImpl u = new ConcurrentUnionGraphImpl(createTestMemGraph("a"));
+        u.addSubGraph(new ConcurrentUnionGraphImpl(b));
+        Assertions.assertThrows(OntJenaException.Unsupported.class, () -> u.setMaterialized(true));
+
+        int threads = 4;
+        int triplesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String prefix = "W" + i + "-";
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < triplesPerThread; j++) {
+                        u.add(Triple.create(NodeFactory.createURI(prefix + j), RDF.type.asNode(), OWL.Class.asNode()));
+                    }
+                }));
+                tasks.add(executor.submit(() -> {
+                    for (int j = 0; j < triplesPerThread; j++) {
+                        Assertions.assertTrue(u.contains(NodeFactory.createURI("B" + (j % 100)), RDF.type.asNode(), OWL.Class.asNode()));
+                        Assertions.assertTrue(u.find(null, RDF.type.asNode(), null).toList().size() >= 100);
+                        Assertions.assertTrue(u.size() >= 100);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(threads * triplesPerThread + 100, u.find().toList().size());
+        Assertions.assertEquals(threads * triplesPerThread, u.getBaseGraph().size());
+
+        ExtendedIterator<Triple> it = u.find(NodeFactory.createURI("W0-0"), Node.ANY, Node.ANY);
+        u.add(Triple.create(NodeFactory.createURI("W0-0"), RDFS.label.asNode(), NodeFactory.createLiteral("x")));
+        Assertions.assertEquals(1, it.toList().size());
+        it = u.find(NodeFactory.createURI("W0-0"), Node.ANY, Node.ANY);
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        Assertions.assertEquals(threads * triplesPerThread - 1, u.getBaseGraph().size());
+        Assertions.assertEquals(1, u.subGraphs().count());
+        Assertions.assertEquals(List.of(u), ((UnionGraph) u.subGraphs().findFirst().orElseThrow()).superGraphs().collect(Collectors.toList()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"isEmpty", "size", "contains"})
+    public void testConcurrentUnionGraphReadWithQueuedWriter(String operation) {
+        Triple t = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        AtomicBoolean armed = new AtomicBoolean();
+        AtomicReference<Thread> queued = new AtomicReference<>();
+        ThreadLocal<Boolean> reading = ThreadLocal.withInitial(() -> false);
+        ConcurrentUnionGraphImpl u = new ConcurrentUnionGraphImpl(createTestMemGraph("a")) {
+            @Override
+            protected <X> X read(Supplier<X> operation) {
+                // the read lock is not reentrant: a nested read waits behind a queued writer (depending on JDK)
+                Assertions.assertFalse(reading.get(), "nested read");
+                return super.read(() -> {
+                    reading.set(true);
+                    try {
+                        return doRead(operation);
+                    } finally {
+                        reading.set(false);
+                    }
+                });
+            }
+
+            private <X> X doRead(Supplier<X> operation) {
+                if (armed.compareAndSet(true, false)) {
+                    // a writer is queued while the read lock is held
+                    Thread w = new Thread(() -> add(t));
+                    w.setDaemon(true);
+                    queued.set(w);
+                    w.start();
+                    while (w.getState() != Thread.State.WAITING && w.isAlive()) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return operation.get();
+            }
+        };
+        u.addSubGraph(createTestMemGraph("b"));
+        armed.set(true);
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            switch (operation) {
+                case "isEmpty":
+                    Assertions.assertTrue(u.isEmpty());
+                    break;
+                case "size":
+                    Assertions.assertEquals(0, u.size());
+                    break;
+                default:
+                    Assertions.assertFalse(u.contains(t));
+            }
+            queued.get().join();
+        });
+        Assertions.assertTrue(u.contains(t));
+        Assertions.assertEquals(1, u.size());
+    }
+
+    @Test
+    public void testBulkAddDelete() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        List<Triple> triples = new ArrayList<>();
+        for (int i = 0; i < UnionGraphImpl.BULK_BATCH_SIZE + 10; i++) {
+            triples.add(Triple.create(NodeFactory.createURI("C" + i), RDF.type.asNode(), OWL.Class.asNode()));
+        }
+        b.add(triples.get(0));
+        b.add(triples.get(1));
+        UnionGraphImpl u = new UnionGraphImpl(a).setSizeTracking(true);
+        u.addSubGraph(new UnionGraphImpl(b));
+        Assertions.assertEquals(2, u.size());
+
+        int[] events = new int[4];
+        u.getEventManager().register(new UnionGraphImpl.EventManagerImpl() {
+            @Override
+            public void onAddTriples(UnionGraph graph, List<Triple> triples) {
+                events[0]++;
+            }
+
+            @Override
+            public void onDeleteTriples(UnionGraph graph, List<Triple> triples) {
+                events[1]++;
+            }
+
+            @Override
+            public void notifyAddList(Graph g, List<Triple> triples) {
+                events[2] += triples.size();
+            }
+
+            @Override
+            public void notifyDeleteList(Graph g, List<Triple> triples) {
+                events[3] += triples.size();
+            }
+        });
+
+        u.addAll(triples.iterator());
+        Assertions.assertEquals(2, events[0]);
+        Assertions.assertEquals(triples.size() - 2, events[2]);
+        Assertions.assertEquals(triples.size() - 2, a.size());
+        Assertions.assertEquals(triples.size(), u.size());
+        Assertions.assertEquals(triples.size(), u.find().toList().size());
+
+        u.deleteAll(triples.subList(0, 5).iterator());
+        Assertions.assertEquals(1, events[1]);
+        Assertions.assertEquals(5, events[3]);
+        Assertions.assertEquals(triples.size() - 5, a.size());
+        Assertions.assertEquals(triples.size() - 3, u.size());
+        Assertions.assertEquals(triples.size() - 3, u.find().toList().size());
+    }
+
+    @Test
+    public void testEventManagerListenersCache() {
+        UnionGraphImpl u = new UnionGraphImpl(createTestMemGraph("a"));
+        Triple t = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        u.add(t);
+        List<Triple> added = new ArrayList<>();
+        UnionGraphImpl.EventManagerImpl listener = new UnionGraphImpl.EventManagerImpl() {
+            @Override
+            public void onAddTriple(UnionGraph graph, Triple triple) {
+                added.add(triple);
+            }
+        };
+        u.getEventManager().register(listener);
+        u.add(t);
+        Assertions.assertEquals(List.of(t), added);
+        u.getEventManager().off();
+        u.add(t);
+        Assertions.assertEquals(List.of(t), added);
+        u.getEventManager().on();
+        u.add(t);
+        Assertions.assertEquals(List.of(t, t), added);
+        u.getEventManager().unregister(listener);
+        u.add(t);
+        Assertions.assertEquals(List.of(t, t), added);
+    }
+
+    @Test
+    public void testOverlapAnalysis() {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Triple t1 = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("C"), RDF.type.asNode(), OWL.Class.asNode());
+        a.add(t1);
+        b.add(t2);
+        UnionGraphImpl u = new UnionGraphImpl(a);
+        u.addSubGraph(new UnionGraphImpl(b));
+        Assertions.assertFalse(u.hasDisjointBases());
+        u.setOverlapAnalysis(true);
+        Assertions.assertTrue(u.isOverlapAnalysisEnabled());
+        Assertions.assertTrue(u.hasDisjointBases());
+        Assertions.assertEquals(List.of(t1, t2), u.find().toList());
+
+        u.add(t3);
+        Assertions.assertTrue(u.hasDisjointBases());
+        u.add(t2);
+        Assertions.assertTrue(u.hasDisjointBases());
+
+        // direct modification
+        b.add(t1);
+        Assertions.assertFalse(u.hasDisjointBases());
+        Assertions.assertEquals(Set.of(t1, t2, t3), u.find().toSet());
+        Assertions.assertEquals(3, u.find().toList().size());
+
+        b.delete(t1);
+        Graph c = createTestMemGraph("c");
+        c.add(t3);
+        u.addSubGraph(new UnionGraphImpl(c));
+        Assertions.assertFalse(u.hasDisjointBases());
+        Assertions.assertEquals(3, u.find().toList().size());
+        a.delete(t3);
+        b.clear();
+        Assertions.assertTrue(u.hasDisjointBases());
+        Assertions.assertEquals(Set.of(t1, t3), u.find().toSet());
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        Graph a = createTestMemGraph("a");
+        Graph b = createTestMemGraph("b");
+        Triple t1 = Triple.create(NodeFactory.createURI("A"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t2 = Triple.create(NodeFactory.createURI("B"), RDF.type.asNode(), OWL.Class.asNode());
+        Triple t3 = Triple.create(NodeFactory.createURI("C"), RDFS.subClassOf.asNode(), OWL.Thing.asNode());
+        a.add(t1);
+        b.add(t2);
+        b.add(t3);
+        UnionGraphImpl u = new UnionGraphImpl(a);
+        u.addSubGraph(new UnionGraphImpl(b));
+        Assertions.assertNull(u.getMetrics());
+        u.setMetrics(true);
+        UnionGraphMetrics metrics = u.getMetrics();
+        Assertions.assertNotNull(metrics);
+
+        Assertions.assertEquals(3, u.find().toList().size());
+        Assertions.assertTrue(u.contains(t2));
+        Assertions.assertEquals(1, metrics.statistics(a).getFindCalls());
+        Assertions.assertEquals(1, metrics.statistics(a).getTriples());
+        Assertions.assertEquals(1, metrics.statistics(a).getContainsCalls());
+        Assertions.assertEquals(1, metrics.statistics(b).getFindCalls());
+        Assertions.assertEquals(2, metrics.statistics(b).getTriples());
+        Assertions.assertEquals(1, metrics.statistics(b).getContainsCalls());
+        Assertions.assertEquals(2, metrics.getFindCalls());
+        Assertions.assertEquals(3, metrics.getTriples());
+        Assertions.assertEquals(2, metrics.getGraphStatistics().length);
+
+        // graph "a" is skipped
+        metrics.reset();
+        u.setGraphSummaries(true);
+        Assertions.assertEquals(List.of(t3), u.find(Node.ANY, RDFS.subClassOf.asNode(), Node.ANY).toList());
+        Assertions.assertEquals(0, metrics.statistics(a).getFindCalls());
+        Assertions.assertEquals(1, metrics.statistics(b).getFindCalls());
+
+        ObjectName name = metrics.registerMBean("test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assertions.assertEquals(1L, server.getAttribute(name, "FindCalls"));
+            Assertions.assertEquals(1L, server.getAttribute(name, "Triples"));
+            server.invoke(name, "reset", null, null);
+            Assertions.assertEquals(0L, server.getAttribute(name, "FindCalls"));
+        } finally {
+            UnionGraphMetrics.unregisterMBean(name);
+        }
+
+        u.setMetrics(false);
+        Assertions.assertNull(u.getMetrics());
+        Assertions.assertEquals(3, u.find().toList().size());
+        Assertions.assertEquals(0, metrics.getFindCalls());
+    }
+
     @Test
     public void testListParents() {
         UnionGraph a = new UnionGraphImpl(createNamedGraph("A"));
@@ -0,0 +1,137 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.impl.ConcurrentUnionGraphImpl;
+import com.github.sszuev.jena.ontapi.impl.UnionGraphImpl;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.RDFS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Measures read scaling of {@link ConcurrentUnionGraphImpl}
+ * compared to a {@link UnionGraphImpl} guarded by an external {@link ReadWriteLock}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhConcurrentUnionGraph {
+    private static final int SIZE = 10_000;
+    private static final Node TYPE = RDF.type.asNode();
+    private static final Node CLASS = OWL.Class.asNode();
+
+    @Param({"CONCURRENT", "EXTERNAL_LOCK"})
+    public String kind;
+    public UnionGraphImpl graph;
+    public ReadWriteLock externalLock;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        boolean concurrent = "CONCURRENT".equals(kind);
+        graph = concurrent ? new ConcurrentUnionGraphImpl(createGraph("base")) : new UnionGraphImpl(createGraph("base"));
+        for (int i = 0; i < 8; i++) {
+            Graph g = createGraph("import" + i);
+            graph.addSubGraph(concurrent ? new ConcurrentUnionGraphImpl(g) : new UnionGraphImpl(g));
+        }
+        externalLock = concurrent ? null : new ReentrantReadWriteLock();
+    }
+
+    private static Graph createGraph(String name) {
+        Graph res = GraphMemFactory.createGraphMem();
+        for (int i = 0; i < SIZE; i++) {
+            Node c = NodeFactory.createURI("http://" + name + "#C" + i);
+            res.add(Triple.create(c, TYPE, CLASS));
+            res.add(Triple.create(c, RDFS.subClassOf.asNode(), OWL.Thing.asNode()));
+        }
+        return res;
+    }
+
+    private boolean contains() {
+        int i = ThreadLocalRandom.current().nextInt(SIZE);
+        Triple t = Triple.create(NodeFactory.createURI("http://import7#C" + i), TYPE, CLASS);
+        if (externalLock == null) {
+            return graph.contains(t);
+        }
+        externalLock.readLock().lock();
+        try {
+            return graph.contains(t);
+        } finally {
+            externalLock.readLock().unlock();
+        }
+    }
+
+    private void add() {
+        Triple t = Triple.create(NodeFactory.createURI("http://new#C" + counter.incrementAndGet()), TYPE, CLASS);
+        if (externalLock == null) {
+            graph.add(t);
+            return;
+        }
+        externalLock.writeLock().lock();
+        try {
+            graph.add(t);
+        } finally {
+            externalLock.writeLock().unlock();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void jmhContains1Thread(Blackhole blackhole) {
+        blackhole.consume(contains());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void jmhContains2Threads(Blackhole blackhole) {
+        blackhole.consume(contains());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void jmhContains4Threads(Blackhole blackhole) {
+        blackhole.consume(contains());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void jmhContains8Threads(Blackhole blackhole) {
+        blackhole.consume(contains());
+    }
+
+    @Benchmark
+    @Group("READ_WRITE")
+    @GroupThreads(7)
+    public void jmhReadWriteContains(Blackhole blackhole) {
+        blackhole.consume(contains());
+    }
+
+    @Benchmark
+    @Group("READ_WRITE")
+    @GroupThreads(1)
+    public void jmhReadWriteAdd() {
+        add();
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.OntModelFactory;
+import com.github.sszuev.jena.ontapi.OntSpecification;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks direct hierarchy queries on a large synthetic class hierarchy,
+ * where classes are grouped into cycles (i.e. equivalent classes), and the cycles form a DAG.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhCyclicHierarchy {
+    private static final String NS = "http://ex.com#";
+    private static final int CLASSES = 2000;
+    private static final int QUERIES = 20;
+
+    @Param({
+            "5",
+            "50",
+    })
+    public int cycleSize;
+    public OntModel model;
+    public List<OntClass> top;
+    public List<OntClass> bottom;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        model = OntModelFactory.createModel(OntSpecification.OWL2_DL_MEM_BUILTIN_INF);
+        Random random = new Random(42);
+        List<OntClass> classes = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(model.createOntClass(NS + "C" + i));
+        }
+        int cycles = CLASSES / cycleSize;
+        for (int c = 0; c < cycles; c++) {
+            // the cycle
+            for (int i = 0; i < cycleSize; i++) {
+                OntClass sub = classes.get(c * cycleSize + i);
+                OntClass sup = classes.get(c * cycleSize + (i + 1) % cycleSize);
+                sub.addSuperClass(sup);
+            }
+            if (c == 0) {
+                continue;
+            }
+            // two random edges to the preceding cycles (tree + diamonds)
+            for (int i = 0; i < 2; i++) {
+                OntClass sub = classes.get(c * cycleSize + random.nextInt(cycleSize));
+                OntClass sup = classes.get(random.nextInt(c * cycleSize));
+                sub.addSuperClass(sup);
+            }
+        }
+        top = classes.subList(0, QUERIES);
+        bottom = classes.subList(CLASSES - QUERIES, CLASSES);
+    }
+
+    @Benchmark
+    @Group("CYCLIC_SUB_CLASSES_DIRECT")
+    public void jmhSubClassesDirect(Blackhole blackhole) {
+        top.forEach(it -> blackhole.consume(it.subClasses(true).collect(Collectors.toList())));
+    }
+
+    @Benchmark
+    @Group("CYCLIC_SUPER_CLASSES_DIRECT")
+    public void jmhSuperClassesDirect(Blackhole blackhole) {
+        bottom.forEach(it -> blackhole.consume(it.superClasses(true).collect(Collectors.toList())));
+    }
+
+    @Benchmark
+    @Group("CYCLIC_CLASS_HIERARCHY")
+    public void jmhClassHierarchy(Blackhole blackhole) {
+        blackhole.consume(model.classHierarchy());
+    }
+}
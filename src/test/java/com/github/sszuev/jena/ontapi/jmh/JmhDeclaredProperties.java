@@ -30,6 +30,7 @@ public class JmhDeclaredProperties {
             "OWL1_LITE_MEM",
             "OWL2_FULL_MEM_RDFS_INF",
             "OWL2_DL_MEM_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
             "LEGACY_OWL_MEM",
             "LEGACY_OWL_DL_MEM_RDFS_INF",
     })
@@ -15,7 +15,9 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -72,4 +74,27 @@ public class JmhDeclaringClasses {
         }
         blackhole.consume(classes);
     }
+
+    @Benchmark
+    @Group("ALL_DECLARING_CLASSES_DIRECT")
+    public void jmhAllDeclaringClassesDirect(Blackhole blackhole) {
+        listAllDeclaringClasses(true, blackhole);
+    }
+
+    @Benchmark
+    @Group("ALL_DECLARING_CLASSES_INDIRECT")
+    public void jmhAllDeclaringClassesIndirect(Blackhole blackhole) {
+        listAllDeclaringClasses(false, blackhole);
+    }
+
+    private void listAllDeclaringClasses(boolean direct, Blackhole blackhole) {
+        if (model instanceof OntModel) {
+            blackhole.consume(((OntModel) model).declaringClasses(direct));
+            return;
+        }
+        Map<Resource, List<? extends Resource>> res = new HashMap<>();
+        ((org.apache.jena.ontology.OntModel) model).listAllOntProperties()
+                .forEachRemaining(it -> res.put(it, it.listDeclaringClasses(direct).toList()));
+        blackhole.consume(res);
+    }
 }
@@ -0,0 +1,70 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.OntModelFactory;
+import com.github.sszuev.jena.ontapi.OntSpecification;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks pairwise disjointness checks on a synthetic model,
+ * where classes are grouped by {@code owl:AllDisjointClasses} and linked by random {@code owl:disjointWith}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhDisjointClasses {
+    private static final String NS = "http://ex.com#";
+    private static final int CLASSES = 2000;
+    private static final int GROUP_SIZE = 20;
+    private static final int QUERIES = 200;
+
+    @Param({
+            "OWL2_DL_MEM_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public String spec;
+    public OntModel model;
+    public List<OntClass[]> pairs;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        model = OntModelFactory.createModel((OntSpecification) OntSpecification.class.getField(spec).get(null));
+        Random random = new Random(42);
+        List<OntClass> classes = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(model.createOntClass(NS + "C" + i));
+        }
+        for (int i = 0; i < CLASSES; i += GROUP_SIZE) {
+            model.createDisjointClasses(classes.subList(i, i + GROUP_SIZE));
+        }
+        for (int i = 0; i < CLASSES; i++) {
+            classes.get(i).addDisjointClass(classes.get((i + 1 + random.nextInt(CLASSES - 1)) % CLASSES));
+        }
+        pairs = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            pairs.add(new OntClass[]{classes.get(random.nextInt(CLASSES)), classes.get(random.nextInt(CLASSES))});
+        }
+    }
+
+    @Benchmark
+    @Group("IS_DISJOINT")
+    public void jmhIsDisjoint(Blackhole blackhole) {
+        pairs.forEach(it -> blackhole.consume(it[0].isDisjoint(it[1])));
+    }
+}
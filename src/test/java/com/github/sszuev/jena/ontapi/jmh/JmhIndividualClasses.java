@@ -1,5 +1,6 @@
 package com.github.sszuev.jena.ontapi.jmh;
 
+import com.github.sszuev.jena.ontapi.model.OntHierarchySession;
 import com.github.sszuev.jena.ontapi.model.OntModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
@@ -72,4 +73,32 @@ public class JmhIndividualClasses {
         }
         blackhole.consume(classes);
     }
+
+    @Benchmark
+    @Group("LIST_ALL_INDIVIDUALS_CLASSES_INDIRECT")
+    public void jmhListAllIndividualsClassesIndirect(Blackhole blackhole) {
+        listAllIndividualsClasses(blackhole);
+    }
+
+    @Benchmark
+    @Group("LIST_ALL_INDIVIDUALS_CLASSES_INDIRECT_IN_SESSION")
+    public void jmhListAllIndividualsClassesIndirectInSession(Blackhole blackhole) {
+        if (!(model instanceof OntModel)) {
+            listAllIndividualsClasses(blackhole);
+            return;
+        }
+        try (OntHierarchySession ignored = ((OntModel) model).hierarchySession()) {
+            listAllIndividualsClasses(blackhole);
+        }
+    }
+
+    private void listAllIndividualsClasses(Blackhole blackhole) {
+        if (model instanceof OntModel) {
+            ((OntModel) model).individuals()
+                    .forEach(it -> blackhole.consume(it.classes(false).collect(Collectors.toList())));
+        } else {
+            ((org.apache.jena.ontology.OntModel) model).listIndividuals()
+                    .forEachRemaining(it -> blackhole.consume(it.listOntClasses(false).toList()));
+        }
+    }
 }
@@ -26,6 +26,7 @@ public class JmhListIndividuals {
 
     @Param({
             "OWL2_FULL_MEM",
+            "OWL2_FULL_MEM_GROUPED_INDIVIDUALS",
             "OWL2_EL_MEM",
             "OWL1_LITE_MEM",
             "OWL2_FULL_MEM_RDFS_INF",
@@ -1,7 +1,10 @@
 package com.github.sszuev.jena.ontapi.jmh;
 
+import com.github.sszuev.jena.ontapi.OntModelControls;
 import com.github.sszuev.jena.ontapi.OntModelFactory;
 import com.github.sszuev.jena.ontapi.OntSpecification;
+import com.github.sszuev.jena.ontapi.common.OntObjectPersonalityBuilder;
+import com.github.sszuev.jena.ontapi.common.OntPersonality;
 import org.apache.jena.graph.Graph;
 import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.rdf.model.Model;
@@ -10,10 +13,12 @@ import org.apache.jena.rdf.model.ModelFactory;
 /*
 @Param({
         "OWL2_FULL_MEM",
+        "OWL2_FULL_MEM_GROUPED_INDIVIDUALS",
         "OWL2_EL_MEM",
         "OWL1_LITE_MEM",
         "OWL2_FULL_MEM_RDFS_INF",
         "OWL2_DL_MEM_BUILTIN_INF",
+        "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
         "LEGACY_OWL_MEM",
         "LEGACY_OWL_DL_MEM_RDFS_INF",
 })
@@ -25,6 +30,17 @@ public enum JmhModelFactory {
             return OntModelFactory.createModel(graph, OntSpecification.OWL2_FULL_MEM);
         }
     },
+    OWL2_FULL_MEM_GROUPED_INDIVIDUALS {
+        @Override
+        public Model createModel(Graph graph) {
+            OntSpecification spec = OntSpecification.OWL2_FULL_MEM;
+            OntPersonality personality = OntObjectPersonalityBuilder.from(spec.getPersonality())
+                    .setName(spec.getPersonality().getName())
+                    .setConfig(spec.getConfig().setTrue(OntModelControls.USE_GROUPED_BY_SUBJECT_LIST_INDIVIDUALS))
+                    .build();
+            return OntModelFactory.createModel(graph, new OntSpecification(personality, spec.getReasonerFactory()));
+        }
+    },
     OWL2_EL_MEM {
         @Override
         public Model createModel(Graph graph) {
@@ -49,6 +65,12 @@ public enum JmhModelFactory {
             return OntModelFactory.createModel(graph, OntSpecification.OWL2_DL_MEM_BUILTIN_INF);
         }
     },
+    OWL2_DL_MEM_INDEXED_BUILTIN_INF {
+        @Override
+        public Model createModel(Graph graph) {
+            return OntModelFactory.createModel(graph, OntSpecification.OWL2_DL_MEM_INDEXED_BUILTIN_INF);
+        }
+    },
 
     LEGACY_OWL_MEM {
         @Override
@@ -0,0 +1,84 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.OntModelFactory;
+import com.github.sszuev.jena.ontapi.OntSpecification;
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntIndividual;
+import com.github.sszuev.jena.ontapi.model.OntModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel listing of individuals on a synthetic ABox,
+ * where each named individual is declared and has two random class assertions
+ * (i.e. about {@code 3 * individuals} triples).
+ * Use {@code -p individuals=1000000} to run on a multi-million-triple ABox.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhParallelIndividuals {
+    private static final String NS = "http://ex.com#";
+    private static final int CLASSES = 100;
+
+    @Param({
+            "OWL2_DL_MEM",
+            "OWL2_DL_MEM_BUILTIN_INF",
+    })
+    public String spec;
+    @Param({"200000"})
+    public int individuals;
+    public OntModel model;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        model = OntModelFactory.createModel((OntSpecification) OntSpecification.class.getField(spec).get(null));
+        Random random = new Random(42);
+        List<OntClass> classes = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            classes.add(model.createOntClass(NS + "C" + i));
+        }
+        for (int i = 0; i < individuals; i++) {
+            OntIndividual individual = model.createIndividual(NS + "i" + i, classes.get(random.nextInt(CLASSES)));
+            individual.attachClass(classes.get(random.nextInt(CLASSES)));
+        }
+    }
+
+    @Benchmark
+    @Group("INDIVIDUALS_SEQUENTIAL")
+    public void jmhIndividualsSequential(Blackhole blackhole) {
+        blackhole.consume(model.individuals().count());
+    }
+
+    @Benchmark
+    @Group("INDIVIDUALS_PARALLEL")
+    public void jmhIndividualsParallel(Blackhole blackhole) {
+        blackhole.consume(model.parallelIndividuals().count());
+    }
+
+    @Benchmark
+    @Group("NAMED_INDIVIDUALS_SEQUENTIAL")
+    public void jmhNamedIndividualsSequential(Blackhole blackhole) {
+        blackhole.consume(model.ontObjects(OntIndividual.Named.class).count());
+    }
+
+    @Benchmark
+    @Group("NAMED_INDIVIDUALS_PARALLEL")
+    public void jmhNamedIndividualsParallel(Blackhole blackhole) {
+        blackhole.consume(model.parallelOntObjects(OntIndividual.Named.class).count());
+    }
+}
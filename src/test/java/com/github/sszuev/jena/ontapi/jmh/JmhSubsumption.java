@@ -0,0 +1,93 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.model.OntClass;
+import com.github.sszuev.jena.ontapi.model.OntIndividual;
+import com.github.sszuev.jena.ontapi.model.OntModel;
+import org.apache.jena.graph.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhSubsumption {
+    private static final int QUERIES = 100;
+
+    @Param({
+            "SIMPLE",
+            "FAMILY",
+    })
+    public String data;
+    @Param({
+            "OWL2_DL_MEM_BUILTIN_INF",
+            "OWL2_DL_MEM_INDEXED_BUILTIN_INF",
+    })
+    public JmhModelFactory factory;
+    public List<OntIndividual> individuals;
+    // a top-most class from the class-type closure of individual
+    public List<OntClass> positive;
+    // a class that is not in the class-type closure of individual
+    public List<OntClass> negative;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Graph graph = "FAMILY".equals(data) ? JmhGraphs.FAMILY : JmhGraphs.SIMPLE;
+        OntModel model = (OntModel) factory.createModel(graph);
+        List<OntClass> classes = model.classes()
+                .sorted(Comparator.comparing(it -> it.asNode().toString()))
+                .collect(Collectors.toList());
+        individuals = new ArrayList<>();
+        positive = new ArrayList<>();
+        negative = new ArrayList<>();
+        model.individuals()
+                .sorted(Comparator.comparing(it -> it.asNode().toString()))
+                .forEach(i -> {
+                    if (individuals.size() == QUERIES) {
+                        return;
+                    }
+                    Set<OntClass> types = i.classes(false).collect(Collectors.toSet());
+                    OntClass top = types.stream()
+                            .max(Comparator.comparingLong(it -> it.subClasses(false).count()))
+                            .orElse(null);
+                    OntClass other = classes.stream().filter(it -> !types.contains(it)).findFirst().orElse(null);
+                    if (top == null || other == null) {
+                        return;
+                    }
+                    individuals.add(i);
+                    positive.add(top);
+                    negative.add(other);
+                });
+    }
+
+    @Benchmark
+    @Group("HAS_ONT_CLASS_POSITIVE")
+    public void jmhHasOntClassPositive(Blackhole blackhole) {
+        for (int i = 0; i < individuals.size(); i++) {
+            blackhole.consume(individuals.get(i).hasOntClass(positive.get(i), false));
+        }
+    }
+
+    @Benchmark
+    @Group("HAS_ONT_CLASS_NEGATIVE")
+    public void jmhHasOntClassNegative(Blackhole blackhole) {
+        for (int i = 0; i < individuals.size(); i++) {
+            blackhole.consume(individuals.get(i).hasOntClass(negative.get(i), false));
+        }
+    }
+}
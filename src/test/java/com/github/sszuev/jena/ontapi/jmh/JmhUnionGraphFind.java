@@ -0,0 +1,78 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.impl.UnionGraphImpl;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.RDFS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential {@link UnionGraphImpl#find(Triple)} with {@link UnionGraphImpl#parallelFind(Triple)}
+ * on a wide import closure.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhUnionGraphFind {
+
+    @Param({"8", "64"})
+    public int imports;
+    @Param({"10000"})
+    public int triplesPerGraph;
+    @Param({"true", "false"})
+    public boolean distinct;
+    public UnionGraphImpl graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        graph = new UnionGraphImpl(createGraph("base", triplesPerGraph), distinct);
+        for (int i = 0; i < imports; i++) {
+            graph.addSubGraph(new UnionGraphImpl(createGraph("import" + i, triplesPerGraph), distinct));
+        }
+    }
+
+    private static Graph createGraph(String name, int size) {
+        Graph res = GraphMemFactory.createGraphMem();
+        for (int i = 0; i < size; i += 2) {
+            String uri = "http://" + name + "#C" + i;
+            res.add(Triple.create(NodeFactory.createURI(uri), RDF.type.asNode(), OWL.Class.asNode()));
+            res.add(Triple.create(NodeFactory.createURI(uri), RDFS.subClassOf.asNode(), OWL.Thing.asNode()));
+        }
+        return res;
+    }
+
+    @Benchmark
+    public void jmhSequentialFindAll(Blackhole blackhole) {
+        graph.find().forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jmhParallelFindAll(Blackhole blackhole) {
+        blackhole.consume(graph.parallelFind(Triple.ANY).count());
+    }
+
+    @Benchmark
+    public void jmhSequentialFindSubClassOf(Blackhole blackhole) {
+        graph.find(Triple.createMatch(null, RDFS.subClassOf.asNode(), null)).forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void jmhParallelFindSubClassOf(Blackhole blackhole) {
+        blackhole.consume(graph.parallelFind(Triple.createMatch(null, RDFS.subClassOf.asNode(), null)).count());
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.sszuev.jena.ontapi.jmh;
+
+import com.github.sszuev.jena.ontapi.UnionGraph;
+import com.github.sszuev.jena.ontapi.impl.UnionGraphImpl;
+import com.github.sszuev.jena.ontapi.vocabulary.OWL;
+import com.github.sszuev.jena.ontapi.vocabulary.RDF;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphListener;
+import org.apache.jena.graph.GraphMemFactory;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures write throughput of {@link UnionGraphImpl}, which depends on the event dispatching.
+ * The {@code STREAM} event manager dispatches events in the old way, using streams, for comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JmhUnionGraphWrite {
+    private static final List<Triple> TRIPLES = createTriples();
+
+    @Param({"CACHED", "STREAM"})
+    public String eventManager;
+    @Param({"0", "1"})
+    public int listeners;
+    public UnionGraphImpl graph;
+
+    private static List<Triple> createTriples() {
+        List<Triple> res = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            res.add(Triple.create(NodeFactory.createURI("http://x#C" + i), RDF.type.asNode(), OWL.Class.asNode()));
+        }
+        return res;
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        UnionGraph.EventManager manager = "CACHED".equals(eventManager) ?
+                new UnionGraphImpl.EventManagerImpl() : new StreamEventManager();
+        for (int i = 0; i < listeners; i++) {
+            manager.register(new UnionGraphImpl.EventManagerImpl());
+        }
+        graph = new UnionGraphImpl(GraphMemFactory.createGraphMem(), manager, false);
+        graph.addSubGraph(new UnionGraphImpl(GraphMemFactory.createGraphMem()));
+    }
+
+    @Benchmark
+    public void jmhAddTriples(Blackhole blackhole) {
+        TRIPLES.forEach(graph::add);
+        blackhole.consume(graph);
+    }
+
+    @Benchmark
+    public void jmhAddTriplesBulk(Blackhole blackhole) {
+        graph.addAll(TRIPLES.iterator());
+        blackhole.consume(graph);
+    }
+
+    /**
+     * Dispatches events using {@code Stream}s, as it was before the listeners cache was introduced.
+     */
+    public static class StreamEventManager extends UnionGraphImpl.EventManagerImpl {
+        @Override
+        public void onAddTriple(UnionGraph graph, Triple triple) {
+            listeners(UnionGraph.Listener.class).forEach(it -> it.onAddTriple(graph, triple));
+        }
+
+        @Override
+        public void onAddTriples(UnionGraph graph, List<Triple> triples) {
+            listeners(UnionGraph.Listener.class).forEach(it -> it.onAddTriples(graph, triples));
+        }
+
+        @Override
+        public void notifyAddTriple(Graph g, Triple t) {
+            for (GraphListener l : listeners) {
+                l.notifyAddTriple(g, t);
+            }
+        }
+    }
+}